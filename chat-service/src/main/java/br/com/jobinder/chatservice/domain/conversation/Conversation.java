@@ -15,7 +15,10 @@ import java.util.UUID;
 @AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 @Entity(name = "Conversation")
-@Table(name = "conversations")
+@Table(name = "conversations", indexes = {
+        @Index(name = "idx_conversations_client_user_id", columnList = "clientUserId"),
+        @Index(name = "idx_conversations_professional_user_id", columnList = "professionalUserId")
+})
 public class Conversation {
 
     @Id
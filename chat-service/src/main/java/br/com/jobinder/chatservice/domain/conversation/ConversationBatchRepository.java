@@ -0,0 +1,11 @@
+package br.com.jobinder.chatservice.domain.conversation;
+
+import br.com.jobinder.chatservice.dto.MatchCreatedEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface ConversationBatchRepository {
+    // One INSERT ... ON CONFLICT (match_id) DO NOTHING for the whole batch; returns how many conversations were new
+    int insertAllIgnoringConflicts(Collection<MatchCreatedEvent> events, LocalDateTime createdAt);
+}
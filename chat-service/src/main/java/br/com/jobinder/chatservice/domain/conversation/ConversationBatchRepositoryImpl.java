@@ -0,0 +1,39 @@
+package br.com.jobinder.chatservice.domain.conversation;
+
+import br.com.jobinder.chatservice.dto.MatchCreatedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+public class ConversationBatchRepositoryImpl implements ConversationBatchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAllIgnoringConflicts(Collection<MatchCreatedEvent> events, LocalDateTime createdAt) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        UUID[] ids = events.stream().map(event -> UUID.randomUUID()).toArray(UUID[]::new);
+        UUID[] matchIds = events.stream().map(MatchCreatedEvent::matchId).toArray(UUID[]::new);
+        UUID[] clientUserIds = events.stream().map(MatchCreatedEvent::clientUserId).toArray(UUID[]::new);
+        UUID[] professionalUserIds = events.stream().map(MatchCreatedEvent::professionalUserId).toArray(UUID[]::new);
+        // Arrays travel as four parameters, so the statement is the same whatever the batch size
+        return jdbcTemplate.update("""
+                        INSERT INTO conversations (id, match_id, client_user_id, professional_user_id, created_at)
+                        SELECT t.id, t.match_id, t.client_user_id, t.professional_user_id, ?
+                        FROM unnest(?, ?, ?, ?) AS t(id, match_id, client_user_id, professional_user_id)
+                        ON CONFLICT (match_id) DO NOTHING""",
+                ps -> {
+                    ps.setObject(1, createdAt);
+                    ps.setArray(2, ps.getConnection().createArrayOf("uuid", ids));
+                    ps.setArray(3, ps.getConnection().createArrayOf("uuid", matchIds));
+                    ps.setArray(4, ps.getConnection().createArrayOf("uuid", clientUserIds));
+                    ps.setArray(5, ps.getConnection().createArrayOf("uuid", professionalUserIds));
+                });
+    }
+}
@@ -1,15 +1,20 @@
 package br.com.jobinder.chatservice.domain.conversation;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
-public interface ConversationRepository extends JpaRepository<Conversation, UUID> {
+public interface ConversationRepository extends JpaRepository<Conversation, UUID>, ConversationBatchRepository {
     List<Conversation> findAllByClientUserIdOrProfessionalUserId(UUID clientUserId, UUID professionalUserId);
 
-    boolean existsByMatchId(UUID matchId);
-
-    Optional<Conversation> findByMatchId(UUID matchId);
+    // Deletes at most :limit of the user's conversations that no longer have messages
+    @Modifying
+    @Query(value = "DELETE FROM conversations WHERE id IN (SELECT c.id FROM conversations c " +
+            "WHERE (c.client_user_id = :userId OR c.professional_user_id = :userId) " +
+            "AND NOT EXISTS (SELECT 1 FROM messages m WHERE m.conversation_id = c.id) LIMIT :limit)", nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") UUID userId, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity(name = "Message")
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        // Postgres does not index foreign keys on its own
+        @Index(name = "idx_messages_conversation_id", columnList = "conversation_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,6 +1,9 @@
 package br.com.jobinder.chatservice.domain.message;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -8,4 +11,11 @@ import java.util.UUID;
 public interface MessageRepository extends JpaRepository<Message, UUID> {
     List<Message> findByConversationIdOrderBySentAtAsc(UUID conversationId);
     void deleteByConversationId(UUID conversationId);
+
+    // Deletes at most :limit messages from any conversation the user takes part in
+    @Modifying
+    @Query(value = "DELETE FROM messages WHERE id IN (SELECT m.id FROM messages m " +
+            "JOIN conversations c ON c.id = m.conversation_id " +
+            "WHERE c.client_user_id = :userId OR c.professional_user_id = :userId LIMIT :limit)", nativeQuery = true)
+    int deleteBatchByConversationUserId(@Param("userId") UUID userId, @Param("limit") int limit);
 }
\ No newline at end of file
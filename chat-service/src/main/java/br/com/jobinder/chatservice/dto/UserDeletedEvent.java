@@ -0,0 +1,8 @@
+package br.com.jobinder.chatservice.dto;
+
+import java.util.UUID;
+
+// Published by identity-service once a deleted user has been purged
+public record UserDeletedEvent(
+        UUID userId
+) {}
@@ -1,11 +1,84 @@
 package br.com.jobinder.chatservice.infra.config;
 
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitMQConfig {
+
+    @Value("${rabbitmq.queues.user-deleted}")
+    private String userDeletedQueue;
+
+    @Value("${rabbitmq.exchanges.identity-events}")
+    private String identityEventsExchange;
+
+    @Value("${rabbitmq.queues.match-created-dlq}")
+    private String matchCreatedDeadLetterQueue;
+
+    @Value("${chat.match-listener.batch-size:200}")
+    private int matchBatchSize;
+
+    @Value("${chat.match-listener.batch-receive-timeout-ms:200}")
+    private long matchBatchReceiveTimeoutMillis;
+
+    @Value("${chat.match-listener.prefetch:500}")
+    private int matchPrefetch;
+
+    @Value("${chat.match-listener.concurrency:2}")
+    private int matchConcurrency;
+
+    @Value("${chat.match-listener.max-concurrency:8}")
+    private int matchMaxConcurrency;
+
+    @Bean
+    public TopicExchange identityEventsExchange() {
+        return new TopicExchange(identityEventsExchange);
+    }
+
+    @Bean
+    public Queue userDeletedQueue() {
+        return new Queue(userDeletedQueue, true);
+    }
+
+    @Bean
+    public Binding userDeletedBinding() {
+        return BindingBuilder.bind(userDeletedQueue()).to(identityEventsExchange()).with("user.deleted");
+    }
+
+    // Match events that can never be processed are parked here for inspection instead of blocking the queue
+    @Bean
+    public Queue matchCreatedDeadLetterQueue() {
+        return new Queue(matchCreatedDeadLetterQueue, true);
+    }
+
+    // Delivers q.match-created in batches: consumers are added while the queue is backed up, and each batch
+    // is acknowledged with a single multiple-ack once the listener returns
+    @Bean
+    public SimpleRabbitListenerContainerFactory matchBatchContainerFactory(ConnectionFactory connectionFactory) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(matchBatchSize);
+        // A short batch goes out after this long instead of waiting to fill up
+        factory.setBatchReceiveTimeout(matchBatchReceiveTimeoutMillis);
+        // At least a full batch per consumer, so the next one is already on the wire while this one commits
+        factory.setPrefetchCount(Math.max(matchPrefetch, matchBatchSize));
+        factory.setConcurrentConsumers(matchConcurrency);
+        factory.setMaxConcurrentConsumers(matchMaxConcurrency);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        return factory;
+    }
+
     @Bean
     public Jackson2JsonMessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -1,21 +1,89 @@
 package br.com.jobinder.chatservice.listener;
 
-import br.com.jobinder.chatservice.domain.conversation.Conversation;
 import br.com.jobinder.chatservice.dto.MatchCreatedEvent;
 import br.com.jobinder.chatservice.service.ConversationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class MatchListener {
 
+    private static final Logger log = LoggerFactory.getLogger(MatchListener.class);
+
     @Autowired
     private ConversationService conversationService;
 
-    @RabbitListener(queues = "${rabbitmq.queues.match-created}")
-    public void onMatchCreated(MatchCreatedEvent event) {
-        // When a match is created, create a conversation between the users
-        Conversation conversation = conversationService.createConversation(event);
+    @Autowired
+    private Jackson2JsonMessageConverter jsonMessageConverter;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Value("${rabbitmq.queues.match-created-dlq}")
+    private String deadLetterQueue;
+
+    // Messages arrive raw so one malformed message cannot fail the conversion of the whole batch.
+    // Returning normally acks the batch; throwing requeues it, which is reserved for failures that may go away
+    @RabbitListener(queues = "${rabbitmq.queues.match-created}", containerFactory = "matchBatchContainerFactory")
+    public void onMatchesCreated(List<Message> messages) {
+        List<MatchCreatedEvent> events = new ArrayList<>(messages.size());
+        List<Message> parsed = new ArrayList<>(messages.size());
+        for (var message : messages) {
+            var event = parse(message);
+            if (event == null) {
+                deadLetter(message, "Malformed match event");
+            } else {
+                events.add(event);
+                parsed.add(message);
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            conversationService.createConversations(events);
+        } catch (DataIntegrityViolationException e) {
+            // Some event in the batch breaks a constraint; retry one by one to isolate it
+            for (int i = 0; i < events.size(); i++) {
+                try {
+                    conversationService.createConversations(List.of(events.get(i)));
+                } catch (DataIntegrityViolationException poison) {
+                    deadLetter(parsed.get(i), poison.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private MatchCreatedEvent parse(Message message) {
+        try {
+            // The type header names matching-service's class, so the target type is given explicitly
+            message.getMessageProperties().setInferredArgumentType(MatchCreatedEvent.class);
+            var event = (MatchCreatedEvent) jsonMessageConverter.fromMessage(message);
+            if (event.matchId() == null || event.clientUserId() == null || event.professionalUserId() == null) {
+                return null;
+            }
+            return event;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Republished with its original body and headers; a failure here propagates and the batch is redelivered
+    private void deadLetter(Message message, String reason) {
+        log.warn("Dead-lettering match event {}: {}", message.getMessageProperties().getMessageId(), reason);
+        message.getMessageProperties().setHeader("x-exception-message", reason);
+        rabbitTemplate.send("", deadLetterQueue, message);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package br.com.jobinder.chatservice.listener;
+
+import br.com.jobinder.chatservice.dto.UserDeletedEvent;
+import br.com.jobinder.chatservice.service.ConversationService;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserDeletedListener {
+
+    @Autowired
+    private ConversationService conversationService;
+
+    @RabbitListener(queues = "${rabbitmq.queues.user-deleted}")
+    public void onUserDeleted(UserDeletedEvent event) {
+        // Deletes are idempotent, so redeliveries are harmless
+        conversationService.deleteConversationsByUserId(event.userId());
+    }
+}
@@ -1,16 +1,22 @@
 package br.com.jobinder.chatservice.service;
 
-import br.com.jobinder.chatservice.domain.conversation.Conversation;
 import br.com.jobinder.chatservice.domain.conversation.ConversationRepository;
+import br.com.jobinder.chatservice.domain.message.MessageRepository;
 import br.com.jobinder.chatservice.dto.MatchCreatedEvent;
 import br.com.jobinder.chatservice.dto.conversation.ConversationCreateDTO;
 import br.com.jobinder.chatservice.dto.conversation.ConversationDTO;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.IntSupplier;
 
 @Service
 public class ConversationService {
@@ -18,23 +24,25 @@ public class ConversationService {
     @Autowired
     private ConversationRepository conversationRepository;
 
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${purge.batch-size:1000}")
+    private int purgeBatchSize;
+
+    // Conversations for a batch of new matches in one statement; redelivered matches are skipped by the
+    // unique match_id, so this is safe to repeat. Returns how many conversations were created
     @Transactional
-    public Conversation createConversation(MatchCreatedEvent event) {
-        if (conversationRepository.existsByMatchId(event.matchId())) {
-            return conversationRepository.findByMatchId(event.matchId()).orElse(null);
-        }
-
-        var conversation = new Conversation(
-                null,
-                event.matchId(),
-                event.clientUserId(),
-                event.professionalUserId(),
-                null,
-                null
-        );
-        return conversationRepository.save(conversation);
+    public int createConversations(List<MatchCreatedEvent> events) {
+        Map<UUID, MatchCreatedEvent> byMatchId = new LinkedHashMap<>();
+        events.forEach(event -> byMatchId.putIfAbsent(event.matchId(), event));
+        return conversationRepository.insertAllIgnoringConflicts(byMatchId.values(), LocalDateTime.now());
     }
 
+    @Transactional(readOnly = true)
     public ConversationDTO findConversationDTOById(UUID conversationId) {
         var conversation = conversationRepository.findById(conversationId)
                 .orElseThrow(() -> new RuntimeException("Conversation not found with ID: " + conversationId));
@@ -48,6 +56,7 @@ public class ConversationService {
         );
     }
 
+    @Transactional(readOnly = true)
     public List<ConversationDTO> findConversationDTOsByUserId(UUID userId) {
         var conversations = conversationRepository.findAllByClientUserIdOrProfessionalUserId(userId, userId);
 
@@ -62,6 +71,21 @@ public class ConversationService {
                 .toList();
     }
 
+    // Messages first, then the emptied conversations; each batch commits on its own
+    // so large accounts never hold one long transaction
+    public void deleteConversationsByUserId(UUID userId) {
+        deleteInBatches(() -> messageRepository.deleteBatchByConversationUserId(userId, purgeBatchSize));
+        deleteInBatches(() -> conversationRepository.deleteBatchByUserId(userId, purgeBatchSize));
+    }
+
+    private void deleteInBatches(IntSupplier batch) {
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> batch.getAsInt());
+        } while (deleted != null && deleted == purgeBatchSize);
+    }
+
+    @Transactional(readOnly = true)
     public List<ConversationDTO> findAllConversationDTOs() {
         return conversationRepository.findAll()
                 .stream()
@@ -38,6 +38,7 @@ public class MessageService {
         return messageRepository.save(message);
     }
 
+    @Transactional(readOnly = true)
     public List<MessageDTO> findMessagesDTOByConversationId(UUID conversationId) {
         if (!conversationRepository.existsById(conversationId)) {
             throw new ConversationNotFoundException("Cannot find messages: Conversation not found with ID: " + conversationId);
@@ -0,0 +1,129 @@
+package br.com.jobinder.chatservice.listener;
+
+import br.com.jobinder.chatservice.domain.conversation.ConversationRepository;
+import br.com.jobinder.chatservice.dto.MatchCreatedEvent;
+import br.com.jobinder.chatservice.service.ConversationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchListenerTest {
+
+    private static final String DEAD_LETTER_QUEUE = "match-created-dlq";
+
+    private final ConversationRepository conversationRepository = mock(ConversationRepository.class);
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final MatchListener listener = new MatchListener();
+
+    @BeforeEach
+    void setUp() {
+        var conversationService = new ConversationService();
+        ReflectionTestUtils.setField(conversationService, "conversationRepository", conversationRepository);
+        ReflectionTestUtils.setField(listener, "conversationService", conversationService);
+        ReflectionTestUtils.setField(listener, "jsonMessageConverter", new Jackson2JsonMessageConverter());
+        ReflectionTestUtils.setField(listener, "rabbitTemplate", rabbitTemplate);
+        ReflectionTestUtils.setField(listener, "deadLetterQueue", DEAD_LETTER_QUEUE);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter a malformed message and still create the rest of the batch")
+    void onMatchesCreated_ShouldDeadLetterMalformedMessage() {
+        var malformed = message("{not json");
+        var valid = event(UUID.randomUUID());
+
+        listener.onMatchesCreated(List.of(malformed, valid));
+
+        verify(rabbitTemplate).send("", DEAD_LETTER_QUEUE, malformed);
+        verify(conversationRepository).insertAllIgnoringConflicts(argThat(events -> events.size() == 1), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter an event missing one of its IDs")
+    void onMatchesCreated_ShouldDeadLetterIncompleteEvent() {
+        var incomplete = message("{\"matchId\":\"" + UUID.randomUUID() + "\",\"clientUserId\":\"" + UUID.randomUUID() + "\"}");
+
+        listener.onMatchesCreated(List.of(incomplete));
+
+        verify(rabbitTemplate).send("", DEAD_LETTER_QUEUE, incomplete);
+        verify(conversationRepository, never()).insertAllIgnoringConflicts(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should insert a match delivered twice in the same batch only once")
+    void onMatchesCreated_ShouldCollapseDuplicateMatchIds() {
+        var matchId = UUID.randomUUID();
+
+        listener.onMatchesCreated(List.of(event(matchId), event(matchId)));
+
+        verify(conversationRepository).insertAllIgnoringConflicts(
+                argThat((Collection<MatchCreatedEvent> events) -> events.size() == 1 && events.iterator().next().matchId().equals(matchId)),
+                any(LocalDateTime.class));
+        verify(rabbitTemplate, never()).send(any(), any(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter only the event that breaks a constraint")
+    void onMatchesCreated_ShouldIsolatePoisonEvent() {
+        var poison = UUID.randomUUID();
+        var poisonMessage = event(poison);
+        when(conversationRepository.insertAllIgnoringConflicts(anyCollection(), any())).thenAnswer(invocation -> {
+            Collection<MatchCreatedEvent> events = invocation.getArgument(0);
+            if (events.stream().anyMatch(event -> event.matchId().equals(poison))) {
+                throw new DataIntegrityViolationException("null value in column");
+            }
+            return events.size();
+        });
+
+        listener.onMatchesCreated(List.of(event(UUID.randomUUID()), poisonMessage));
+
+        verify(rabbitTemplate).send(eq(""), eq(DEAD_LETTER_QUEUE), eq(poisonMessage));
+        verify(rabbitTemplate, never()).send(eq(""), eq(DEAD_LETTER_QUEUE), argThat(message -> message != poisonMessage));
+    }
+
+    @Test
+    @DisplayName("Should propagate failures that may go away, so the batch is redelivered")
+    void onMatchesCreated_ShouldPropagateTransientFailure() {
+        when(conversationRepository.insertAllIgnoringConflicts(anyCollection(), any()))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        assertThatThrownBy(() -> listener.onMatchesCreated(List.of(event(UUID.randomUUID()))))
+                .isInstanceOf(QueryTimeoutException.class);
+        verify(rabbitTemplate, never()).send(any(), any(), any(Message.class));
+    }
+
+    private static Message event(UUID matchId) {
+        return message("{\"matchId\":\"" + matchId + "\",\"clientUserId\":\"" + UUID.randomUUID() +
+                "\",\"professionalUserId\":\"" + UUID.randomUUID() + "\"}");
+    }
+
+    private static Message message(String body) {
+        var properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setMessageId(UUID.randomUUID().toString());
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.jobinder.identityservice.controller;
 
 import br.com.jobinder.identityservice.dto.internal.InternalUserAuthDTO;
+import br.com.jobinder.identityservice.dto.internal.UserSummaryDTO;
+import br.com.jobinder.identityservice.dto.internal.UserSummaryRequestDTO;
 import br.com.jobinder.identityservice.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,13 +11,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/internal/users")
 @Tag(name = "Internal", description = "Endpoints for internal service-to-service communication. NOT FOR PUBLIC USE.")
@@ -44,4 +51,27 @@ public class InternalController {
         var userDetails = userService.findAuthDetailsByPhone(phone);
         return ResponseEntity.ok(userDetails);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Get User Summaries in batch",
+            description = "Retrieves the display name, whether the user is a professional and, for professionals, " +
+                    "the specialty and thumbnail of up to 100 users in one call. " +
+                    "Deleted and unknown users are left out of the result. " +
+                    "This endpoint is intended for internal service communication ONLY (e.g., Matching-Service).",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Summaries retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UserSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (empty list or more than 100 IDs)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized (invalid or missing internal token/key)",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden (insufficient permissions)",
+                    content = @Content)
+    })
+    @PostMapping("/summaries")
+    public ResponseEntity<List<UserSummaryDTO>> getUserSummaries(@RequestBody @Valid UserSummaryRequestDTO requestDTO) {
+        var summaries = userService.findUserSummaries(requestDTO.userIds());
+        return ResponseEntity.ok(summaries);
+    }
+}
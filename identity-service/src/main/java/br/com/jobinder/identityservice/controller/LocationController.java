@@ -1,6 +1,7 @@
 package br.com.jobinder.identityservice.controller;
 
 import br.com.jobinder.identityservice.dto.location.LocationDTO;
+import br.com.jobinder.identityservice.infra.web.HttpCaching;
 import br.com.jobinder.identityservice.service.LocationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,10 +10,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,11 +32,17 @@ public class LocationController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Locations retrieved successfully",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = LocationDTO.class)))
+                            schema = @Schema(implementation = LocationDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Locations not modified since the given ETag",
+                    content = @Content)
     })
     @GetMapping
-    public ResponseEntity<List<LocationDTO>> getAllLocations() {
+    public ResponseEntity<List<LocationDTO>> getAllLocations(WebRequest webRequest) {
         var locations = locationService.findAll();
-        return ResponseEntity.ok(locations);
+        var eTag = HttpCaching.eTag(locations.toArray());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(HttpCaching.CATALOG).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(HttpCaching.CATALOG).body(locations);
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package br.com.jobinder.identityservice.controller;
+
+import br.com.jobinder.identityservice.infra.storage.StoredMedia;
+import br.com.jobinder.identityservice.service.MediaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/media")
+@Tag(name = "Media", description = "Endpoints for serving uploaded images")
+public class MediaController {
+
+    // Keys are never reused, so a stored file can be cached by clients and proxies indefinitely
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+
+    // Below this size the sendfile handoff costs more than copying through the channel
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    @Autowired
+    private MediaService mediaService;
+
+    @Operation(summary = "Download a media file",
+            description = "Serves an uploaded image or thumbnail. Supports single byte-range requests and conditional requests. This is a public endpoint.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Media file served", content = @Content),
+            @ApiResponse(responseCode = "206", description = "Requested byte range served", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Client copy is still valid", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Media not found", content = @Content),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable", content = @Content)
+    })
+    @GetMapping("/{key}")
+    public void getMedia(@PathVariable String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var media = mediaService.findMedia(key);
+        var eTag = "\"" + media.key() + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, media.lastModified().toEpochMilli());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (eTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long length = media.size();
+        var range = request.getHeader(HttpHeaders.RANGE);
+        var ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(eTag))) {
+            var bounds = parseRange(range, media.size());
+            if (bounds == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + media.size());
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                length = bounds[1] - bounds[0] + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + bounds[0] + "-" + bounds[1] + "/" + media.size());
+            }
+        }
+
+        response.setContentType(media.contentType());
+        response.setContentLengthLong(length);
+        if (!"HEAD".equals(request.getMethod())) {
+            writeBody(request, response, media, start, length);
+        }
+    }
+
+    // Returns {first, last} for a single satisfiable range, an empty array to serve the whole
+    // file (multiple or malformed ranges may be ignored per RFC 9110) and null if unsatisfiable
+    private static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        var spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            long first;
+            long last;
+            if (dash == 0) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix == 0) {
+                    return null;
+                }
+                first = Math.max(0, size - suffix);
+                last = size - 1;
+            } else {
+                first = Long.parseLong(spec.substring(0, dash));
+                last = dash == spec.length() - 1 ? size - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), size - 1);
+            }
+            if (first >= size || first > last) {
+                return null;
+            }
+            return new long[]{first, last};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private static void writeBody(HttpServletRequest request, HttpServletResponse response, StoredMedia media, long start, long length) throws IOException {
+        // Let Tomcat hand the file to the kernel with sendfile once the handler returns
+        if (length >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            request.setAttribute("org.apache.tomcat.sendfile.filename", media.path().toAbsolutePath().toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", start);
+            request.setAttribute("org.apache.tomcat.sendfile.end", start + length);
+            return;
+        }
+
+        try (var channel = FileChannel.open(media.path(), StandardOpenOption.READ)) {
+            var out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.jobinder.identityservice.controller;
+
+import br.com.jobinder.identityservice.dto.profilecard.ProfileCardDTO;
+import br.com.jobinder.identityservice.service.ProfileCardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/profile-cards")
+@Tag(name = "Profile Cards", description = "Endpoints for browsing professional cards")
+public class ProfileCardController {
+
+    @Autowired
+    private ProfileCardService profileCardService;
+
+    @Operation(summary = "Browse professional cards",
+            description = "Lists profile cards, best rated first, optionally filtered by specialty, state and city (case-insensitive).",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cards retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ProfileCardDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<List<ProfileCardDTO>> browseProfileCards(
+            @RequestParam(required = false) String specialtyName,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        var cards = profileCardService.browse(specialtyName, city, state, page, size);
+        return ResponseEntity.ok(cards);
+    }
+}
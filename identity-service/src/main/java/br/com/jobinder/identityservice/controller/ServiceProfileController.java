@@ -1,7 +1,10 @@
 package br.com.jobinder.identityservice.controller;
 
+import br.com.jobinder.identityservice.dto.serviceprofile.ServiceProfileAvailabilityUpdateDTO;
 import br.com.jobinder.identityservice.dto.serviceprofile.ServiceProfileCreateDTO;
 import br.com.jobinder.identityservice.dto.serviceprofile.ServiceProfileResponseDTO;
+import br.com.jobinder.identityservice.infra.web.HttpCaching;
+import br.com.jobinder.identityservice.service.MediaService;
 import br.com.jobinder.identityservice.service.ServiceProfileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,12 +15,20 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -28,6 +39,9 @@ public class ServiceProfileController {
     @Autowired
     private ServiceProfileService serviceProfileService;
 
+    @Autowired
+    private MediaService mediaService;
+
     /*
       Public and Authenticated User Endpoints
       These endpoints are accessible to authenticated users.
@@ -63,6 +77,8 @@ public class ServiceProfileController {
             @ApiResponse(responseCode = "200", description = "Profile found successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ServiceProfileResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Profile not modified since the given ETag or date",
+                    content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content),
             @ApiResponse(responseCode = "403", description = "Forbidden (user trying to access another user's profile)",
@@ -71,11 +87,87 @@ public class ServiceProfileController {
                     content = @Content)
     })
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ServiceProfileResponseDTO> getServiceProfileByUserId(@PathVariable UUID userId) {
+    public ResponseEntity<ServiceProfileResponseDTO> getServiceProfileByUserId(@PathVariable UUID userId, WebRequest webRequest) {
+        // Validate the client's copy against the profile timestamp before loading the full profile
+        var lastModified = serviceProfileService.findLastModifiedByUserId(userId);
+        var eTag = HttpCaching.eTag(userId, lastModified);
+        if (webRequest.checkNotModified(eTag, HttpCaching.toEpochMillis(lastModified))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(HttpCaching.PRIVATE_REVALIDATE).build();
+        }
+
         var profileResponse = serviceProfileService.getServiceProfileByUserId(userId);
+        return ResponseEntity.ok()
+                .eTag(HttpCaching.eTag(userId, profileResponse.updatedAt()))
+                .lastModified(HttpCaching.toEpochMillis(profileResponse.updatedAt()))
+                .cacheControl(HttpCaching.PRIVATE_REVALIDATE)
+                .body(profileResponse);
+    }
+
+    @Operation(summary = "Update my availability",
+            description = "Replaces the weekly availability slots of the authenticated user's service profile.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Availability updated successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceProfileResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (invalid availability slots)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Service Profile not found for this user",
+                    content = @Content)
+    })
+    @PutMapping("/me/availability")
+    public ResponseEntity<ServiceProfileResponseDTO> updateMyAvailability(@RequestBody @Valid ServiceProfileAvailabilityUpdateDTO updateDto, Authentication authentication) {
+        UUID authenticatedUserId = UUID.fromString(authentication.getName());
+        var profileResponse = serviceProfileService.updateAvailability(authenticatedUserId, updateDto.availabilitySlots());
         return ResponseEntity.ok(profileResponse);
     }
 
+    @Operation(summary = "Upload my service image",
+            description = "Replaces the image of the authenticated user's service profile. A thumbnail is generated in the background and attached to the profile once ready.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Image uploaded successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceProfileResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (empty file or unsupported image type)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Service Profile not found for this user",
+                    content = @Content),
+            @ApiResponse(responseCode = "413", description = "Uploaded file is too large",
+                    content = @Content)
+    })
+    @PutMapping(value = "/me/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ServiceProfileResponseDTO> uploadMyServiceImage(@RequestParam("file") MultipartFile file, Authentication authentication) {
+        UUID authenticatedUserId = UUID.fromString(authentication.getName());
+        var profileResponse = mediaService.uploadServiceImage(authenticatedUserId, file);
+        return ResponseEntity.ok(profileResponse);
+    }
+
+    @Operation(summary = "List Service Profiles available in a time window",
+            description = "Retrieves the profiles with an availability slot covering the whole window on the given day of the week.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Available profiles retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceProfileResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (invalid time window)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content)
+    })
+    @GetMapping("/available")
+    public ResponseEntity<List<ServiceProfileResponseDTO>> getAvailableServiceProfiles(
+            @RequestParam DayOfWeek dayOfWeek,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime endTime) {
+        var profiles = serviceProfileService.findAvailableServiceProfiles(dayOfWeek, startTime, endTime);
+        return ResponseEntity.ok(profiles);
+    }
+
     @Operation(summary = "Find the User ID associated with a Service Profile ID",
             description = "Retrieves the owner's User ID based on a Service Profile ID. This is a public endpoint.")
     @ApiResponses(value = {
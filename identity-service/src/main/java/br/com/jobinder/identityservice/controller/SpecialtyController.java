@@ -1,6 +1,7 @@
 package br.com.jobinder.identityservice.controller;
 
 import br.com.jobinder.identityservice.dto.specialty.SpecialtyDTO;
+import br.com.jobinder.identityservice.infra.web.HttpCaching;
 import br.com.jobinder.identityservice.service.SpecialtyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,10 +10,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,11 +32,17 @@ public class SpecialtyController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Specialties retrieved successfully",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = SpecialtyDTO.class)))
+                            schema = @Schema(implementation = SpecialtyDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Specialties not modified since the given ETag",
+                    content = @Content)
     })
     @GetMapping
-    public ResponseEntity<List<SpecialtyDTO>> getAllSpecialties() {
+    public ResponseEntity<List<SpecialtyDTO>> getAllSpecialties(WebRequest webRequest) {
         var specialties = specialtyService.findAll();
-        return ResponseEntity.ok(specialties);
+        var eTag = HttpCaching.eTag(specialties.toArray());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(HttpCaching.CATALOG).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(HttpCaching.CATALOG).body(specialties);
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import br.com.jobinder.identityservice.dto.user.UserChangePasswordDTO;
 import br.com.jobinder.identityservice.dto.user.UserCreateDTO;
 import br.com.jobinder.identityservice.dto.user.UserResponseDTO;
 import br.com.jobinder.identityservice.dto.user.UserUpdateDTO;
+import br.com.jobinder.identityservice.infra.web.HttpCaching;
 import br.com.jobinder.identityservice.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,9 +17,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
@@ -85,16 +88,32 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "Profile retrieved successfully",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = UserResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Profile not modified since the given ETag or date",
+                    content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "User not found",
                     content = @Content)
     })
     @GetMapping("/me")
-    public ResponseEntity<UserResponseDTO> getMe(Authentication authentication) {
-        User authenticatedUser = (User) authentication.getPrincipal();
-        var userResponse = userService.findUserDTOById(authenticatedUser.getId());
-        return ResponseEntity.ok(userResponse);
+    public ResponseEntity<UserResponseDTO> getMe(Authentication authentication, WebRequest webRequest) {
+        // The JWT filter stores the user ID as the principal name
+        UUID authenticatedUserId = UUID.fromString(authentication.getName());
+
+        // Validate the client's copy against the user timestamp before loading the user
+        var lastModified = userService.findLastModifiedById(authenticatedUserId);
+        var eTag = HttpCaching.eTag(authenticatedUserId, lastModified);
+        if (webRequest.checkNotModified(eTag, HttpCaching.toEpochMillis(lastModified))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(HttpCaching.PRIVATE_REVALIDATE).build();
+        }
+
+        // Validators come from the loaded body, which may be newer than the pre-read
+        var userResponse = userService.findUserDTOById(authenticatedUserId);
+        return ResponseEntity.ok()
+                .eTag(HttpCaching.eTag(authenticatedUserId, userResponse.updatedAt()))
+                .lastModified(HttpCaching.toEpochMillis(userResponse.updatedAt()))
+                .cacheControl(HttpCaching.PRIVATE_REVALIDATE)
+                .body(userResponse);
     }
 
     @Operation(summary = "Update my profile",
@@ -135,6 +154,24 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Delete my account",
+            description = "Deletes the currently authenticated user. The account is disabled immediately and its profile, matches and conversations are removed in the background.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Account deleted, data removal in progress"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "User not found",
+                    content = @Content)
+    })
+    @DeleteMapping("/me")
+    public ResponseEntity<Void> deleteMe(Authentication authentication) {
+        // The JWT filter stores the user ID as the principal name
+        UUID authenticatedUserId = UUID.fromString(authentication.getName());
+        userService.deleteUser(authenticatedUserId);
+        return ResponseEntity.accepted().build();
+    }
+
     /*
       Administrative Endpoints
       These endpoints are intended for administrative use only.
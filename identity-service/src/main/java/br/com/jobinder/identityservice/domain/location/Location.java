@@ -2,6 +2,8 @@ package br.com.jobinder.identityservice.domain.location;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.UUID;
 
 @Getter
@@ -13,6 +15,8 @@ import java.util.UUID;
 @Table(name = "locations", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"city", "state"})
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Location {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
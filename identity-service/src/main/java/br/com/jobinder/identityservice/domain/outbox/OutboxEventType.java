@@ -0,0 +1,19 @@
+package br.com.jobinder.identityservice.domain.outbox;
+
+public enum OutboxEventType {
+    USER_CREATED("user.created"),
+    USER_UPDATED("user.updated"),
+    USER_DELETED("user.deleted"),
+    PROFILE_CHANGED("profile.changed");
+
+    // Routing key used on the identity events exchange
+    private final String routingKey;
+
+    OutboxEventType(String routingKey) {
+        this.routingKey = routingKey;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.jobinder.identityservice.domain.profilecard;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Flat copy of a service profile with its user, specialty and location, kept in sync
+// by ProfileCardService so browse queries never need joins
+@Entity(name = "ProfileCard")
+@Table(name = "profile_cards", indexes = {
+        @Index(name = "idx_profile_cards_specialty_location", columnList = "specialtyKey, stateKey, cityKey, rating"),
+        @Index(name = "idx_profile_cards_location", columnList = "stateKey, cityKey, rating"),
+        @Index(name = "idx_profile_cards_rating", columnList = "rating")
+})
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileCard {
+    // Same ID as the service profile
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, unique = true)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private String displayName;
+
+    @Column(nullable = false)
+    private String specialtyName;
+
+    @Column(nullable = false)
+    private String locationCity;
+
+    @Column(nullable = false)
+    private String locationState;
+
+    // Lower-cased copies used by the case-insensitive browse filters
+    @Column(nullable = false)
+    private String specialtyKey;
+
+    @Column(nullable = false)
+    private String cityKey;
+
+    @Column(nullable = false)
+    private String stateKey;
+
+    private String serviceImageUrl;
+
+    private String serviceThumbnailUrl;
+
+    private int servicesPerformed;
+    private float rating;
+
+    private LocalDateTime updatedAt;
+}
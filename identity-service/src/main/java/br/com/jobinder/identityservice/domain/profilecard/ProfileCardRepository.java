@@ -0,0 +1,35 @@
+package br.com.jobinder.identityservice.domain.profilecard;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface ProfileCardRepository extends JpaRepository<ProfileCard, UUID>, JpaSpecificationExecutor<ProfileCard> {
+
+    @Modifying
+    @Query("update ProfileCard c set c.displayName = :displayName where c.userId = :userId")
+    int updateDisplayName(@Param("userId") UUID userId, @Param("displayName") String displayName);
+
+    @Modifying
+    @Query("delete from ProfileCard c where c.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+
+    // Creates the cards missing for existing profiles, e.g. on the first start after this table was added
+    @Modifying
+    @Query(value = "INSERT INTO profile_cards (id, user_id, display_name, specialty_name, location_city, location_state, " +
+            "specialty_key, city_key, state_key, service_image_url, service_thumbnail_url, services_performed, rating, updated_at) " +
+            "SELECT p.id, u.id, TRIM(u.first_name) || CASE WHEN COALESCE(u.last_name, '') = '' THEN '' ELSE ' ' || TRIM(u.last_name) END, " +
+            "s.name, l.city, l.state, LOWER(s.name), LOWER(l.city), LOWER(l.state), " +
+            "p.service_image_url, p.service_thumbnail_url, p.services_performed, p.rating, p.updated_at " +
+            "FROM service_profiles p " +
+            "JOIN users u ON u.id = p.user_id " +
+            "JOIN specialties s ON s.id = p.specialty_id " +
+            "JOIN locations l ON l.id = p.location_id " +
+            "WHERE u.deleted_at IS NULL " +
+            "ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int insertMissingCards();
+}
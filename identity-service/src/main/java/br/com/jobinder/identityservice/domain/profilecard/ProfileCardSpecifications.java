@@ -0,0 +1,34 @@
+package br.com.jobinder.identityservice.domain.profilecard;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+// Only the filters that were given become predicates, so each combination gets its own index-friendly query
+public final class ProfileCardSpecifications {
+
+    private ProfileCardSpecifications() {
+    }
+
+    public static Specification<ProfileCard> browse(String specialtyName, String city, String state) {
+        Specification<ProfileCard> specification = (root, query, builder) -> builder.conjunction();
+        if (specialtyName != null && !specialtyName.isBlank()) {
+            specification = specification.and(equalsKey("specialtyKey", specialtyName));
+        }
+        if (state != null && !state.isBlank()) {
+            specification = specification.and(equalsKey("stateKey", state));
+        }
+        if (city != null && !city.isBlank()) {
+            specification = specification.and(equalsKey("cityKey", city));
+        }
+        return specification;
+    }
+
+    public static String toKey(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Specification<ProfileCard> equalsKey(String attribute, String value) {
+        return (root, query, builder) -> builder.equal(root.get(attribute), toKey(value));
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.jobinder.identityservice.domain.serviceprofile;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+// One weekly availability interval, e.g. MONDAY 09:00-12:00
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AvailabilitySlot {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    // 00:00 as end time means "until the end of the day"
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    public int startMinute() {
+        return startTime.getHour() * 60 + startTime.getMinute();
+    }
+
+    public int endMinute() {
+        if (endTime.equals(LocalTime.MIDNIGHT)) {
+            return 24 * 60;
+        }
+        return endTime.getHour() * 60 + endTime.getMinute();
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.jobinder.identityservice.domain.serviceprofile;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.UUID;
+
+// Flat projection used to (re)build the availability index without loading whole profiles
+public interface AvailabilitySlotView {
+    UUID getProfileId();
+
+    DayOfWeek getDayOfWeek();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
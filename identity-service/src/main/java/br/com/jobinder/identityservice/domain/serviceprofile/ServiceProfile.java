@@ -5,13 +5,19 @@ import br.com.jobinder.identityservice.domain.specialty.Specialty;
 import br.com.jobinder.identityservice.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Entity(name = "ServiceProfile")
 @Table(name = "service_profiles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
@@ -36,11 +42,18 @@ public class ServiceProfile {
 
     private String serviceImageUrl;
 
+    private String serviceThumbnailUrl;
+
     private int servicesPerformed;
     private float rating;
 
     private String availability;
 
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @CollectionTable(name = "service_profile_availability", joinColumns = @JoinColumn(name = "service_profile_id"))
+    private List<AvailabilitySlot> availabilitySlots = new ArrayList<>();
+
     @Column(columnDefinition = "TEXT")
     private String description;
 
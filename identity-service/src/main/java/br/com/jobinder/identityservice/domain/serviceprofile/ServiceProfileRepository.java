@@ -1,12 +1,32 @@
 package br.com.jobinder.identityservice.domain.serviceprofile;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ServiceProfileRepository extends JpaRepository<ServiceProfile, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ServiceProfile> findByUserId(UUID userId);
 
     boolean existsByUserId(UUID userId);
-}
\ No newline at end of file
+
+    // Lightweight lookup used to answer conditional GETs without loading the profile graph
+    @Query("select p.updatedAt from ServiceProfile p where p.user.id = :userId")
+    Optional<LocalDateTime> findUpdatedAtByUserId(@Param("userId") UUID userId);
+
+    @Query("select p.id as profileId, s.dayOfWeek as dayOfWeek, s.startTime as startTime, s.endTime as endTime " +
+            "from ServiceProfile p join p.availabilitySlots s")
+    List<AvailabilitySlotView> findAllAvailabilitySlots();
+
+    @Query("select p.id as profileId, s.dayOfWeek as dayOfWeek, s.startTime as startTime, s.endTime as endTime " +
+            "from ServiceProfile p join p.availabilitySlots s where p.id = :profileId")
+    List<AvailabilitySlotView> findAvailabilitySlotsByProfileId(@Param("profileId") UUID profileId);
+}
@@ -2,6 +2,8 @@ package br.com.jobinder.identityservice.domain.specialty; // Pacote ajustado
 
 import jakarta.persistence.*;
 import lombok.*; // Imports ajustados
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.UUID;
 
 @Getter
@@ -11,6 +13,8 @@ import java.util.UUID;
 @EqualsAndHashCode(of = "id")
 @Entity(name = "Specialty")
 @Table(name = "specialties")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Specialty {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
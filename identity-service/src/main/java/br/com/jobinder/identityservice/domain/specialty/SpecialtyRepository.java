@@ -1,10 +1,21 @@
 package br.com.jobinder.identityservice.domain.specialty;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SpecialtyRepository extends JpaRepository<Specialty, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Specialty> findByNameIgnoreCase(String name);
+
+    // Catalog listing served from the query cache until a specialty is written
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Specialty> findAll(Sort sort);
 }
@@ -2,7 +2,11 @@ package br.com.jobinder.identityservice.domain.user;
 
 import jakarta.persistence.*;
 import lombok.*; // Imports ajustados
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,11 +24,15 @@ import java.util.UUID;
 @EqualsAndHashCode(of = "id")
 @Entity(name = "User")
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class User implements UserDetails {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String phone;
 
@@ -47,6 +55,14 @@ public class User implements UserDetails {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Set when the account is deleted; the row is removed later by the purge job
+    private LocalDateTime deletedAt;
+
+    @Transient
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
     @Transient
     public String getFullName() {
         if (lastName == null || lastName.isEmpty()) {
@@ -87,7 +103,7 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return !isDeleted();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package br.com.jobinder.identityservice.domain.user;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+    // Resolves the user through Hibernate's natural-id API so the second-level cache can answer it
+    Optional<User> findByNaturalPhone(String phone);
+}
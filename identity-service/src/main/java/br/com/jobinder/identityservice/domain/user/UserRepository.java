@@ -1,12 +1,37 @@
 package br.com.jobinder.identityservice.domain.user;
 
+import br.com.jobinder.identityservice.dto.internal.UserSummaryDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserNaturalIdRepository {
     Optional<User> findByPhone(String phone);
 
     boolean existsByPhone(String phone);
+
+    // Lightweight lookup used to answer conditional GETs without loading the user
+    @Query("select u.updatedAt from User u where u.id = :userId and u.deletedAt is null")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("userId") UUID userId);
+
+    // Names plus profile card fields for a batch of users in one query; deleted and unknown users are left out
+    @Query("select new br.com.jobinder.identityservice.dto.internal.UserSummaryDTO(u.id, " +
+            "case when u.lastName is null or u.lastName = '' then u.firstName else concat(u.firstName, ' ', u.lastName) end, " +
+            "c.specialtyName, c.serviceThumbnailUrl, c.locationCity, c.locationState, " +
+            "case when p.id is null then false else true end) " +
+            "from User u left join ProfileCard c on c.userId = u.id left join ServiceProfile p on p.user = u " +
+            "where u.id in :userIds and u.deletedAt is null")
+    List<UserSummaryDTO> findSummariesByIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    // Oldest soft-deleted users first; SKIP LOCKED lets several purge instances share the work
+    @Query(value = "SELECT id FROM users WHERE deleted_at IS NOT NULL " +
+            "ORDER BY deleted_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<UUID> lockNextDeletedBatch(@Param("limit") int limit);
 }
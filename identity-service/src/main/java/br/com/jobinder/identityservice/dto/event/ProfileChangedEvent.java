@@ -0,0 +1,17 @@
+package br.com.jobinder.identityservice.dto.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ProfileChangedEvent(
+        UUID serviceProfileId,
+        UUID userId,
+        String specialtyName,
+        String locationCity,
+        String locationState,
+        String serviceImageUrl,
+        String serviceThumbnailUrl,
+        Integer servicesPerformed,
+        Float rating,
+        LocalDateTime changedAt
+) {}
@@ -0,0 +1,10 @@
+package br.com.jobinder.identityservice.dto.event;
+
+import java.util.UUID;
+
+public record UserCreatedEvent(
+        UUID userId,
+        String firstName,
+        String lastName,
+        String role
+) {}
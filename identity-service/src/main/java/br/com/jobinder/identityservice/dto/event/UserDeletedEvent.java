@@ -0,0 +1,9 @@
+package br.com.jobinder.identityservice.dto.event;
+
+import java.util.UUID;
+
+public record UserDeletedEvent(
+        UUID userId,
+        // Null when the user had no service profile
+        UUID serviceProfileId
+) {}
@@ -0,0 +1,9 @@
+package br.com.jobinder.identityservice.dto.event;
+
+import java.util.UUID;
+
+public record UserUpdatedEvent(
+        UUID userId,
+        String firstName,
+        String lastName
+) {}
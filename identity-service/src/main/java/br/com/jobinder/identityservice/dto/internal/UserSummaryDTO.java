@@ -0,0 +1,15 @@
+package br.com.jobinder.identityservice.dto.internal;
+
+import java.util.UUID;
+
+// What other services need to draw a user in a list; profile fields are null for clients
+public record UserSummaryDTO(
+        UUID userId,
+        String displayName,
+        String specialtyName,
+        String serviceThumbnailUrl,
+        String locationCity,
+        String locationState,
+        // True when the user has a service profile; matching-service pairs clients only with professionals
+        boolean professional
+) {}
@@ -0,0 +1,11 @@
+package br.com.jobinder.identityservice.dto.internal;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UserSummaryRequestDTO(
+        @NotEmpty @Size(max = 100) List<UUID> userIds
+) {}
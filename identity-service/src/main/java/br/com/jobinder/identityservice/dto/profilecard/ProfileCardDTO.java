@@ -0,0 +1,18 @@
+package br.com.jobinder.identityservice.dto.profilecard;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ProfileCardDTO(
+        UUID serviceProfileId,
+        UUID userId,
+        String displayName,
+        String specialtyName,
+        String locationCity,
+        String locationState,
+        String serviceImageUrl,
+        String serviceThumbnailUrl,
+        Integer servicesPerformed,
+        Float rating,
+        LocalDateTime updatedAt
+) {}
@@ -0,0 +1,15 @@
+package br.com.jobinder.identityservice.dto.serviceprofile;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record AvailabilitySlotDTO(
+        @NotNull(message = "Day of week cannot be null")
+        DayOfWeek dayOfWeek,
+        @NotNull(message = "Start time cannot be null")
+        LocalTime startTime,
+        @NotNull(message = "End time cannot be null")
+        LocalTime endTime
+) {}
@@ -0,0 +1,11 @@
+package br.com.jobinder.identityservice.dto.serviceprofile;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record ServiceProfileAvailabilityUpdateDTO(
+        @NotNull(message = "Availability slots cannot be null")
+        List<@Valid AvailabilitySlotDTO> availabilitySlots
+) {}
@@ -1,7 +1,10 @@
 package br.com.jobinder.identityservice.dto.serviceprofile;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 
+import java.util.List;
+
 public record ServiceProfileCreateDTO(
         @NotBlank(message = "Specialty name cannot be blank")
         String specialtyName,
@@ -13,6 +16,7 @@ public record ServiceProfileCreateDTO(
         String serviceImageUrl,
         @NotBlank(message = "Availability cannot be blank")
         String availability,
+        List<@Valid AvailabilitySlotDTO> availabilitySlots,
         @NotBlank(message = "Description cannot be blank")
         String description
 ) {}
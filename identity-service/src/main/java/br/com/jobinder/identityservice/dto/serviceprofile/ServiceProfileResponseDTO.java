@@ -3,6 +3,7 @@ package br.com.jobinder.identityservice.dto.serviceprofile;
 import jakarta.validation.constraints.NotBlank;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 // "Flat" DTO to facilitate front-end consumption
@@ -13,9 +14,11 @@ public record ServiceProfileResponseDTO(
         @NotBlank String locationCity,
         @NotBlank String locationState,
         @NotBlank String serviceImageUrl,
+        String serviceThumbnailUrl,
         @NotBlank Integer servicesPerformed,
         @NotBlank Float rating,
         @NotBlank String availability,
+        List<AvailabilitySlotDTO> availabilitySlots,
         @NotBlank String description,
         @NotBlank LocalDateTime createdAt,
         @NotBlank LocalDateTime updatedAt
@@ -0,0 +1,151 @@
+package br.com.jobinder.identityservice.infra.availability;
+
+import br.com.jobinder.identityservice.domain.serviceprofile.AvailabilitySlot;
+import br.com.jobinder.identityservice.domain.serviceprofile.ServiceProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory index of weekly availability, one interval tree per weekday. Each replica keeps its own copy,
+// kept current by its local edits and by the profile change events every replica receives from the outbox
+@Component
+public class AvailabilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    private final IntervalTree[] treesByDay = new IntervalTree[DayOfWeek.values().length];
+    private final Map<UUID, List<AvailabilitySlot>> slotsByProfile = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Updates received while rebuild() reads the slots, applied after the loaded snapshot in arrival order so an
+    // edit committed during the load is not overwritten by older data. Null outside a rebuild
+    private List<Runnable> deferred;
+
+    @Autowired
+    private ServiceProfileRepository profileRepository;
+
+    public AvailabilityIndex() {
+        for (int i = 0; i < treesByDay.length; i++) {
+            treesByDay[i] = new IntervalTree();
+        }
+    }
+
+    // Load every stored slot once the application is up
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        write(() -> deferred = new ArrayList<>());
+        Map<UUID, List<AvailabilitySlot>> loaded = null;
+        try {
+            loaded = loadAll();
+        } finally {
+            var snapshot = loaded;
+            write(() -> {
+                if (snapshot != null) {
+                    for (int i = 0; i < treesByDay.length; i++) {
+                        treesByDay[i] = new IntervalTree();
+                    }
+                    slotsByProfile.clear();
+                    snapshot.forEach(this::replaceLocked);
+                }
+                deferred.forEach(Runnable::run);
+                deferred = null;
+            });
+        }
+        log.info("Availability index built for {} profiles", loaded.size());
+    }
+
+    public void replace(UUID profileId, Collection<AvailabilitySlot> slots) {
+        // Copy the slots so later changes to the entity do not leak into the index
+        List<AvailabilitySlot> snapshot = slots.stream()
+                .map(s -> new AvailabilitySlot(s.getDayOfWeek(), s.getStartTime(), s.getEndTime()))
+                .toList();
+
+        write(() -> {
+            if (deferred != null) {
+                deferred.add(() -> replaceLocked(profileId, snapshot));
+            } else {
+                replaceLocked(profileId, snapshot);
+            }
+        });
+    }
+
+    // Re-reads one profile's slots, for changes made on another replica. Reads the current state rather than
+    // the event's, so events arriving out of order cannot leave an older version behind
+    public void refresh(UUID profileId) {
+        replace(profileId, profileRepository.findAvailabilitySlotsByProfileId(profileId).stream()
+                .map(view -> new AvailabilitySlot(view.getDayOfWeek(), view.getStartTime(), view.getEndTime()))
+                .toList());
+    }
+
+    // Defers the update until the surrounding transaction commits, so rolled back edits never reach the index
+    public void replaceAfterCommit(UUID profileId, Collection<AvailabilitySlot> slots) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            replace(profileId, slots);
+            return;
+        }
+        List<AvailabilitySlot> snapshot = List.copyOf(slots);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replace(profileId, snapshot);
+            }
+        });
+    }
+
+    public void remove(UUID profileId) {
+        replace(profileId, List.of());
+    }
+
+    // Returns the profiles with a slot covering the whole [from, to) window on the given day
+    public Set<UUID> findAvailable(DayOfWeek dayOfWeek, int fromMinute, int toMinute) {
+        Set<UUID> result = new LinkedHashSet<>();
+        lock.readLock().lock();
+        try {
+            treesByDay[dayOfWeek.ordinal()].findContaining(fromMinute, toMinute, result::add);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private Map<UUID, List<AvailabilitySlot>> loadAll() {
+        Map<UUID, List<AvailabilitySlot>> loaded = new HashMap<>();
+        profileRepository.findAllAvailabilitySlots().forEach(view -> loaded
+                .computeIfAbsent(view.getProfileId(), id -> new ArrayList<>())
+                .add(new AvailabilitySlot(view.getDayOfWeek(), view.getStartTime(), view.getEndTime())));
+        return loaded;
+    }
+
+    private void write(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replaceLocked(UUID profileId, List<AvailabilitySlot> slots) {
+        List<AvailabilitySlot> previous = slotsByProfile.remove(profileId);
+        if (previous != null) {
+            previous.forEach(s -> treesByDay[s.getDayOfWeek().ordinal()]
+                    .remove(s.startMinute(), s.endMinute(), profileId));
+        }
+        if (slots.isEmpty()) {
+            return;
+        }
+        slots.forEach(s -> treesByDay[s.getDayOfWeek().ordinal()]
+                .insert(s.startMinute(), s.endMinute(), profileId));
+        slotsByProfile.put(profileId, slots);
+    }
+}
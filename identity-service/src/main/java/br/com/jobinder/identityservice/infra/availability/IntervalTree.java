@@ -0,0 +1,178 @@
+package br.com.jobinder.identityservice.infra.availability;
+
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/*
+  AVL tree of [start, end) intervals (minutes of the day) keyed by start and augmented with the
+  maximum end of each subtree, so containment queries can skip whole branches.
+  Not thread-safe: callers must guard concurrent access.
+*/
+class IntervalTree {
+
+    private static final Comparator<Node> ORDER = Comparator
+            .comparingInt((Node n) -> n.start)
+            .thenComparingInt(n -> n.end)
+            .thenComparing(n -> n.profileId);
+
+    private Node root;
+    private int size;
+
+    private static final class Node {
+        final int start;
+        final int end;
+        final UUID profileId;
+        int maxEnd;
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(int start, int end, UUID profileId) {
+            this.start = start;
+            this.end = end;
+            this.profileId = profileId;
+            this.maxEnd = end;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void insert(int start, int end, UUID profileId) {
+        root = insert(root, new Node(start, end, profileId));
+    }
+
+    void remove(int start, int end, UUID profileId) {
+        root = remove(root, new Node(start, end, profileId));
+    }
+
+    // Visits every interval that fully contains [from, to)
+    void findContaining(int from, int to, Consumer<UUID> visitor) {
+        findContaining(root, from, to, visitor);
+    }
+
+    private void findContaining(Node node, int from, int to, Consumer<UUID> visitor) {
+        // No interval in this subtree ends late enough
+        if (node == null || node.maxEnd < to) {
+            return;
+        }
+        findContaining(node.left, from, to, visitor);
+        // Everything to the right starts even later than this node
+        if (node.start > from) {
+            return;
+        }
+        if (node.end >= to) {
+            visitor.accept(node.profileId);
+        }
+        findContaining(node.right, from, to, visitor);
+    }
+
+    private Node insert(Node node, Node newNode) {
+        if (node == null) {
+            size++;
+            return newNode;
+        }
+        int cmp = ORDER.compare(newNode, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, newNode);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, newNode);
+        } else {
+            // Duplicate interval for the same profile, nothing to do
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, Node key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = ORDER.compare(key, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, key);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, key);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Replace with the in-order successor
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.start, successor.end, successor.profileId);
+            replacement.right = removeMin(node.right);
+            replacement.left = node.left;
+            return rebalance(replacement);
+        }
+        return rebalance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        int maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+}
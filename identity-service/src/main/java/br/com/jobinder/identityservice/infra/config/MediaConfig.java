@@ -0,0 +1,34 @@
+package br.com.jobinder.identityservice.infra.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class MediaConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaConfig.class);
+
+    @Value("${media.thumbnail.pool-size:2}")
+    private int poolSize;
+
+    @Value("${media.thumbnail.queue-capacity:100}")
+    private int queueCapacity;
+
+    // Small bounded pool so image decoding never competes with request threads
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        // Profiles fall back to the full image when a thumbnail is skipped
+        executor.setRejectedExecutionHandler((task, pool) -> log.warn("Thumbnail queue is full, skipping task"));
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.jobinder.identityservice.infra.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${rabbitmq.exchanges.identity-events}")
+    private String identityEventsExchange;
+
+    // Downstream services bind their own queues to the routing keys they care about
+    @Bean
+    public TopicExchange identityEventsExchange() {
+        return new TopicExchange(identityEventsExchange, true, false);
+    }
+
+    // Server-named, exclusive and auto-delete: one per replica, so every node's availability index sees
+    // the profile edits and deletions committed on the others
+    @Bean
+    public Queue availabilityProfileChangedQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding availabilityProfileChangedBinding() {
+        return BindingBuilder.bind(availabilityProfileChangedQueue()).to(identityEventsExchange()).with("profile.changed");
+    }
+
+    @Bean
+    public Queue availabilityUserDeletedQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding availabilityUserDeletedBinding() {
+        return BindingBuilder.bind(availabilityUserDeletedQueue()).to(identityEventsExchange()).with("user.deleted");
+    }
+
+    @Bean
+    public Jackson2JsonMessageConverter jsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+}
@@ -1,5 +1,8 @@
 package br.com.jobinder.identityservice.infra.exception;
 
+import br.com.jobinder.identityservice.infra.exception.media.InvalidMediaException;
+import br.com.jobinder.identityservice.infra.exception.media.MediaNotFoundException;
+import br.com.jobinder.identityservice.infra.exception.serviceprofile.InvalidAvailabilitySlotException;
 import br.com.jobinder.identityservice.infra.exception.serviceprofile.ServiceProfileAlreadyExistsException;
 import br.com.jobinder.identityservice.infra.exception.serviceprofile.ServiceProfileNotFoundException;
 import br.com.jobinder.identityservice.infra.exception.user.InvalidPasswordException;
@@ -12,6 +15,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -63,6 +67,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", ex.getMessage()));
     }
 
+    // Handle invalid availability slot error
+    @ExceptionHandler(InvalidAvailabilitySlotException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidAvailabilitySlot(InvalidAvailabilitySlotException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", ex.getMessage()));
+    }
+
+    // Handle unsupported or empty media uploads
+    @ExceptionHandler(InvalidMediaException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidMedia(InvalidMediaException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", ex.getMessage()));
+    }
+
+    // Handle media not found error
+    @ExceptionHandler(MediaNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleMediaNotFound(MediaNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", ex.getMessage()));
+    }
+
+    // Handle uploads above spring.servlet.multipart.max-file-size
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String, String>> handleMaxUploadSize(MaxUploadSizeExceededException ex) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of("error", "Uploaded file is too large."));
+    }
+
     // Handle invalid password error
     @ExceptionHandler(InvalidPasswordException.class)
     public ResponseEntity<Map<String, String>> handleInvalidPassword(InvalidPasswordException ex) {
@@ -0,0 +1,7 @@
+package br.com.jobinder.identityservice.infra.exception.media;
+
+public class InvalidMediaException extends RuntimeException {
+    public InvalidMediaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.jobinder.identityservice.infra.exception.media;
+
+public class MediaNotFoundException extends RuntimeException {
+    public MediaNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.jobinder.identityservice.infra.exception.serviceprofile;
+
+public class InvalidAvailabilitySlotException extends RuntimeException {
+    public InvalidAvailabilitySlotException(String message) {
+        super(message);
+    }
+}
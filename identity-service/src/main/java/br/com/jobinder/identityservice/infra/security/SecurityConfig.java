@@ -50,6 +50,10 @@ public class SecurityConfig {
                                 "/api-docs/**"
                         ).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/users/register").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        // Media keys are unguessable and served to profile cards without a token
+                        .requestMatchers(HttpMethod.GET, "/api/v1/media/**").permitAll()
+                        .requestMatchers("/actuator/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_INTERNAL_SERVICE")
                         .requestMatchers("/api/v1/internal/**").hasAuthority("ROLE_INTERNAL_SERVICE")
                         .requestMatchers("/api/v1/profiles/**").hasAuthority("ROLE_INTERNAL_SERVICE")
                         .requestMatchers("/api/v1/users/admin/**").hasRole("ADMIN")
@@ -0,0 +1,74 @@
+package br.com.jobinder.identityservice.infra.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+@Component
+public class LocalDiskMediaStorage implements MediaStorage {
+
+    private final Path root;
+
+    public LocalDiskMediaStorage(@Value("${media.storage.root:./media}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        Files.createDirectories(this.root);
+    }
+
+    @Override
+    public void store(String key, InputStream content) throws IOException {
+        Path target = resolve(key);
+        // Write to a temp file first so readers never see a partially written image
+        Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<StoredMedia> find(String key) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return Optional.of(new StoredMedia(
+                key,
+                path,
+                attributes.size(),
+                attributes.lastModifiedTime().toInstant(),
+                contentTypeOf(key)
+        ));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        // Never let a key escape the storage root
+        if (!path.getParent().equals(root)) {
+            throw new IllegalArgumentException("Invalid media key: " + key);
+        }
+        return path;
+    }
+
+    private static String contentTypeOf(String key) {
+        if (key.endsWith(".png")) {
+            return "image/png";
+        }
+        return "image/jpeg";
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.jobinder.identityservice.infra.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+// Storage backend for uploaded media, keyed by an opaque file name such as "<uuid>.jpg"
+public interface MediaStorage {
+
+    // Streams the content to the store; implementations must not buffer the whole file in memory
+    void store(String key, InputStream content) throws IOException;
+
+    Optional<StoredMedia> find(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+}
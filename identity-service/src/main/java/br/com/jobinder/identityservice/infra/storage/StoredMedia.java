@@ -0,0 +1,13 @@
+package br.com.jobinder.identityservice.infra.storage;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+// A stored file as seen by the serving code; the path lets it be streamed with zero-copy I/O
+public record StoredMedia(
+        String key,
+        Path path,
+        long size,
+        Instant lastModified,
+        String contentType
+) {}
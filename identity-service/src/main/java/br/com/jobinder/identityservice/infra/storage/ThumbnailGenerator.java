@@ -0,0 +1,69 @@
+package br.com.jobinder.identityservice.infra.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+// Produces fixed-size square JPEG thumbnails (center crop)
+@Component
+public class ThumbnailGenerator {
+
+    @Value("${media.thumbnail.size:256}")
+    private int size;
+
+    public byte[] generate(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            var readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format: " + source.getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // Subsample while decoding so large photos are never fully materialized in the heap
+                int factor = Math.max(1, Math.min(width, height) / (size * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+
+                BufferedImage thumbnail = cropAndScale(reader.read(0, param));
+                var output = new ByteArrayOutputStream();
+                ImageIO.write(thumbnail, "jpg", output);
+                return output.toByteArray();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage cropAndScale(BufferedImage image) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - side) / 2;
+        int y = (image.getHeight() - side) / 2;
+
+        // RGB target with a white background so PNG transparency does not turn black in the JPEG
+        var thumbnail = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, size, size);
+            graphics.drawImage(image, 0, 0, size, size, x, y, x + side, y + side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+}
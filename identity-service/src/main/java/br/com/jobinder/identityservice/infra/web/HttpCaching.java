@@ -0,0 +1,43 @@
+package br.com.jobinder.identityservice.infra.web;
+
+import org.springframework.http.CacheControl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+
+// Helpers shared by the controllers that answer conditional GETs
+public final class HttpCaching {
+
+    // Per-user data: browsers may store it but must revalidate every time
+    public static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // Catalogs rarely change and are the same for every user
+    public static final CacheControl CATALOG = CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic();
+
+    private HttpCaching() {
+    }
+
+    // Strong ETag built from a hash of the given parts (ids, timestamps, catalog entries)
+    public static String eTag(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '|');
+            }
+            byte[] hash = digest.digest();
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
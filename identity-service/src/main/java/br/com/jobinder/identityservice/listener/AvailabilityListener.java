@@ -0,0 +1,29 @@
+package br.com.jobinder.identityservice.listener;
+
+import br.com.jobinder.identityservice.dto.event.ProfileChangedEvent;
+import br.com.jobinder.identityservice.dto.event.UserDeletedEvent;
+import br.com.jobinder.identityservice.infra.availability.AvailabilityIndex;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// Keeps this replica's availability index in step with edits committed on any replica, this one included.
+// Both updates are idempotent, so redeliveries and the echo of a local edit are harmless
+@Component
+public class AvailabilityListener {
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @RabbitListener(queues = "#{availabilityProfileChangedQueue.name}")
+    public void onProfileChanged(ProfileChangedEvent event) {
+        availabilityIndex.refresh(event.serviceProfileId());
+    }
+
+    @RabbitListener(queues = "#{availabilityUserDeletedQueue.name}")
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (event.serviceProfileId() != null) {
+            availabilityIndex.remove(event.serviceProfileId());
+        }
+    }
+}
@@ -16,7 +16,7 @@ public class AuthenticationService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // The username is the phone number in this case, because we are using phone-based authentication
-        return userRepository.findByPhone(username)
+        return userRepository.findByNaturalPhone(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with phone:" + username));
     }
 }
\ No newline at end of file
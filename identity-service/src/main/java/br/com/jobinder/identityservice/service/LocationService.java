@@ -4,7 +4,9 @@ import br.com.jobinder.identityservice.domain.location.Location;
 import br.com.jobinder.identityservice.domain.location.LocationRepository;
 import br.com.jobinder.identityservice.dto.location.LocationDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -22,8 +24,10 @@ public class LocationService {
                 });
     }
 
+    @Transactional(readOnly = true)
     public List<LocationDTO> findAll() {
-        return locationRepository.findAll()
+        // Stable ordering keeps the catalog ETag stable between requests
+        return locationRepository.findAll(Sort.by("state", "city"))
                 .stream()
                 .map(l -> new LocationDTO(l.getId(), l.getCity(), l.getState()))
                 .toList();
@@ -0,0 +1,129 @@
+package br.com.jobinder.identityservice.service;
+
+import br.com.jobinder.identityservice.dto.serviceprofile.ServiceProfileResponseDTO;
+import br.com.jobinder.identityservice.infra.exception.media.InvalidMediaException;
+import br.com.jobinder.identityservice.infra.exception.media.MediaNotFoundException;
+import br.com.jobinder.identityservice.infra.storage.MediaStorage;
+import br.com.jobinder.identityservice.infra.storage.StoredMedia;
+import br.com.jobinder.identityservice.infra.storage.ThumbnailGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Service
+public class MediaService {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaService.class);
+
+    public static final String MEDIA_PATH = "/api/v1/media/";
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png"
+    );
+
+    // Keys are generated by this service, anything else is rejected before touching the disk
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f\\-]{36}(-thumb)?\\.(jpg|png)");
+
+    @Autowired
+    private MediaStorage mediaStorage;
+
+    @Autowired
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @Autowired
+    private ServiceProfileService serviceProfileService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor thumbnailExecutor;
+
+    public ServiceProfileResponseDTO uploadServiceImage(UUID userId, MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new InvalidMediaException("Uploaded file is empty.");
+        }
+        var extension = EXTENSIONS.get(file.getContentType());
+        if (extension == null) {
+            throw new InvalidMediaException("Unsupported media type: " + file.getContentType() + ". Use JPEG or PNG.");
+        }
+
+        // Fails with 404 before anything is written when the user has no profile
+        var previous = serviceProfileService.getServiceProfileByUserId(userId);
+
+        // Every upload gets a new key, so served files never change and can be cached for good
+        var imageKey = UUID.randomUUID() + "." + extension;
+        try (var content = file.getInputStream()) {
+            mediaStorage.store(imageKey, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store uploaded image", e);
+        }
+
+        ServiceProfileResponseDTO updated;
+        try {
+            updated = serviceProfileService.replaceServiceImage(userId, MEDIA_PATH + imageKey);
+        } catch (RuntimeException e) {
+            deleteQuietly(imageKey);
+            throw e;
+        }
+
+        deleteServiceImages(previous.serviceImageUrl(), previous.serviceThumbnailUrl());
+        thumbnailExecutor.execute(() -> createThumbnail(updated.serviceProfileId(), imageKey));
+
+        return updated;
+    }
+
+    public StoredMedia findMedia(String key) {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new MediaNotFoundException("Media not found: " + key);
+        }
+        try {
+            return mediaStorage.find(key)
+                    .orElseThrow(() -> new MediaNotFoundException("Media not found: " + key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read media " + key, e);
+        }
+    }
+
+    private void createThumbnail(UUID profileId, String imageKey) {
+        var thumbnailKey = imageKey.substring(0, imageKey.lastIndexOf('.')) + "-thumb.jpg";
+        try {
+            var source = mediaStorage.find(imageKey);
+            if (source.isEmpty()) {
+                // Replaced and deleted before the task ran
+                return;
+            }
+            var thumbnail = thumbnailGenerator.generate(source.get().path());
+            mediaStorage.store(thumbnailKey, new ByteArrayInputStream(thumbnail));
+            serviceProfileService.attachThumbnail(profileId, MEDIA_PATH + imageKey, MEDIA_PATH + thumbnailKey);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not create thumbnail for {}", imageKey, e);
+            deleteQuietly(thumbnailKey);
+        }
+    }
+
+    // Only files from our own store are deleted, external URLs set at profile creation are left alone
+    public void deleteServiceImages(String... urls) {
+        for (var url : urls) {
+            if (url != null && url.startsWith(MEDIA_PATH)) {
+                deleteQuietly(url.substring(MEDIA_PATH.length()));
+            }
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            mediaStorage.delete(key);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not delete media {}", key, e);
+        }
+    }
+}
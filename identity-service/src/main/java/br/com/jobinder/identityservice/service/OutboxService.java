@@ -0,0 +1,35 @@
+package br.com.jobinder.identityservice.service;
+
+import br.com.jobinder.identityservice.domain.outbox.OutboxEvent;
+import br.com.jobinder.identityservice.domain.outbox.OutboxEventRepository;
+import br.com.jobinder.identityservice.domain.outbox.OutboxEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Must run inside the caller's transaction so the event commits (or rolls back) with the change itself
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType eventType, UUID aggregateId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " event", e);
+        }
+        outboxEventRepository.save(new OutboxEvent(null, eventType, aggregateId, json, null, null));
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.jobinder.identityservice.service;
+
+import br.com.jobinder.identityservice.domain.profilecard.ProfileCard;
+import br.com.jobinder.identityservice.domain.profilecard.ProfileCardRepository;
+import br.com.jobinder.identityservice.domain.profilecard.ProfileCardSpecifications;
+import br.com.jobinder.identityservice.domain.serviceprofile.ServiceProfile;
+import br.com.jobinder.identityservice.domain.user.User;
+import br.com.jobinder.identityservice.dto.profilecard.ProfileCardDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Maintains the profile_cards read model in the same transaction as the writes it mirrors
+@Service
+public class ProfileCardService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileCardService.class);
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private ProfileCardRepository profileCardRepository;
+
+    private static ProfileCardDTO toDto(ProfileCard card) {
+        return new ProfileCardDTO(
+                card.getId(),
+                card.getUserId(),
+                card.getDisplayName(),
+                card.getSpecialtyName(),
+                card.getLocationCity(),
+                card.getLocationState(),
+                card.getServiceImageUrl(),
+                card.getServiceThumbnailUrl(),
+                card.getServicesPerformed(),
+                card.getRating(),
+                card.getUpdatedAt()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int created = profileCardRepository.insertMissingCards();
+        if (created > 0) {
+            log.info("Created {} missing profile cards", created);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void upsert(ServiceProfile profile) {
+        var card = profileCardRepository.findById(profile.getId()).orElseGet(ProfileCard::new);
+        card.setId(profile.getId());
+        card.setUserId(profile.getUser().getId());
+        card.setDisplayName(profile.getUser().getFullName());
+        card.setSpecialtyName(profile.getSpecialty().getName());
+        card.setLocationCity(profile.getLocation().getCity());
+        card.setLocationState(profile.getLocation().getState());
+        card.setSpecialtyKey(ProfileCardSpecifications.toKey(profile.getSpecialty().getName()));
+        card.setCityKey(ProfileCardSpecifications.toKey(profile.getLocation().getCity()));
+        card.setStateKey(ProfileCardSpecifications.toKey(profile.getLocation().getState()));
+        card.setServiceImageUrl(profile.getServiceImageUrl());
+        card.setServiceThumbnailUrl(profile.getServiceThumbnailUrl());
+        card.setServicesPerformed(profile.getServicesPerformed());
+        card.setRating(profile.getRating());
+        card.setUpdatedAt(LocalDateTime.now());
+        profileCardRepository.save(card);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updateDisplayName(User user) {
+        profileCardRepository.updateDisplayName(user.getId(), user.getFullName());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteByUserId(UUID userId) {
+        profileCardRepository.deleteByUserId(userId);
+    }
+
+    // Single indexed read on profile_cards, best rated first
+    @Transactional(readOnly = true)
+    public List<ProfileCardDTO> browse(String specialtyName, String city, String state, int page, int size) {
+        var pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Order.desc("rating"), Sort.Order.asc("id")));
+        // Slice instead of Page, browsing does not need the count query
+        return profileCardRepository.findBy(ProfileCardSpecifications.browse(specialtyName, city, state), query -> query.slice(pageable))
+                .stream()
+                .map(ProfileCardService::toDto)
+                .toList();
+    }
+}
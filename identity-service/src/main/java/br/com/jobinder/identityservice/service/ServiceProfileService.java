@@ -1,18 +1,28 @@
 package br.com.jobinder.identityservice.service;
 
+import br.com.jobinder.identityservice.domain.outbox.OutboxEventType;
+import br.com.jobinder.identityservice.domain.serviceprofile.AvailabilitySlot;
 import br.com.jobinder.identityservice.domain.serviceprofile.ServiceProfile;
 import br.com.jobinder.identityservice.domain.serviceprofile.ServiceProfileRepository;
 import br.com.jobinder.identityservice.domain.user.UserRepository;
+import br.com.jobinder.identityservice.dto.event.ProfileChangedEvent;
+import br.com.jobinder.identityservice.dto.serviceprofile.AvailabilitySlotDTO;
 import br.com.jobinder.identityservice.dto.serviceprofile.ServiceProfileCreateDTO;
 import br.com.jobinder.identityservice.dto.serviceprofile.ServiceProfileResponseDTO;
+import br.com.jobinder.identityservice.infra.availability.AvailabilityIndex;
+import br.com.jobinder.identityservice.infra.exception.serviceprofile.InvalidAvailabilitySlotException;
 import br.com.jobinder.identityservice.infra.exception.serviceprofile.ServiceProfileAlreadyExistsException;
 import br.com.jobinder.identityservice.infra.exception.serviceprofile.ServiceProfileNotFoundException;
 import br.com.jobinder.identityservice.infra.exception.user.UserNotFoundException;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,6 +41,15 @@ public class ServiceProfileService {
     @Autowired
     private SpecialtyService specialtyService;
 
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ProfileCardService profileCardService;
+
     // Map entity to DTO
     private ServiceProfileResponseDTO toResponseDto(ServiceProfile profile) {
         return new ServiceProfileResponseDTO(
@@ -40,19 +59,58 @@ public class ServiceProfileService {
                 profile.getLocation().getCity(),
                 profile.getLocation().getState(),
                 profile.getServiceImageUrl(),
+                profile.getServiceThumbnailUrl(),
                 profile.getServicesPerformed(),
                 profile.getRating(),
                 profile.getAvailability(),
+                profile.getAvailabilitySlots().stream()
+                        .map(slot -> new AvailabilitySlotDTO(slot.getDayOfWeek(), slot.getStartTime(), slot.getEndTime()))
+                        .toList(),
                 profile.getDescription(),
                 profile.getCreatedAt(),
                 profile.getUpdatedAt()
         );
     }
 
+    // Refresh the profile card and record the change for other services in the same transaction as the write
+    private void recordProfileChanged(ServiceProfile profile) {
+        profileCardService.upsert(profile);
+        outboxService.record(OutboxEventType.PROFILE_CHANGED, profile.getId(), new ProfileChangedEvent(
+                profile.getId(),
+                profile.getUser().getId(),
+                profile.getSpecialty().getName(),
+                profile.getLocation().getCity(),
+                profile.getLocation().getState(),
+                profile.getServiceImageUrl(),
+                profile.getServiceThumbnailUrl(),
+                profile.getServicesPerformed(),
+                profile.getRating(),
+                LocalDateTime.now()
+        ));
+    }
+
+    // Map and validate availability slots
+    private List<AvailabilitySlot> toAvailabilitySlots(List<AvailabilitySlotDTO> slotDtos) {
+        var slots = new ArrayList<AvailabilitySlot>();
+        if (slotDtos == null) {
+            return slots;
+        }
+        for (var dto : slotDtos) {
+            var slot = new AvailabilitySlot(dto.dayOfWeek(), dto.startTime(), dto.endTime());
+            if (slot.startMinute() >= slot.endMinute()) {
+                throw new InvalidAvailabilitySlotException("Availability slot must end after it starts: " +
+                        dto.dayOfWeek() + " " + dto.startTime() + "-" + dto.endTime());
+            }
+            slots.add(slot);
+        }
+        return slots;
+    }
+
     @Transactional
     public ServiceProfileResponseDTO createServiceProfile(ServiceProfileCreateDTO dto, UUID authenticatedUserId) {
         // Check if the user exists (in case the token is valid but the user was deleted)
         var user = userRepository.findById(authenticatedUserId)
+                .filter(u -> !u.isDeleted())
                 .orElseThrow(() -> new UserNotFoundException("Authenticated user not found with ID: " + authenticatedUserId));
 
         // Check if the user already has a service profile
@@ -70,19 +128,24 @@ public class ServiceProfileService {
                 specialty,
                 location,
                 dto.serviceImageUrl(),
+                null,
                 0,
                 0.0f,
                 dto.availability(),
+                toAvailabilitySlots(dto.availabilitySlots()),
                 dto.description(),
                 null,
                 null
         );
 
         var savedProfile = profileRepository.save(newProfile);
+        availabilityIndex.replaceAfterCommit(savedProfile.getId(), savedProfile.getAvailabilitySlots());
+        recordProfileChanged(savedProfile);
 
         return toResponseDto(savedProfile);
     }
 
+    @Transactional(readOnly = true)
     @PreAuthorize("authentication.name == #userId.toString() or hasRole('ADMIN')")
     public ServiceProfileResponseDTO getServiceProfileByUserId(UUID userId) {
         return profileRepository.findByUserId(userId)
@@ -90,12 +153,82 @@ public class ServiceProfileService {
                 .orElseThrow(() -> new ServiceProfileNotFoundException("Service Profile not found for user with ID: " + userId));
     }
 
+    @Transactional(readOnly = true)
+    @PreAuthorize("authentication.name == #userId.toString() or hasRole('ADMIN')")
+    public LocalDateTime findLastModifiedByUserId(UUID userId) {
+        return profileRepository.findUpdatedAtByUserId(userId)
+                .orElseThrow(() -> new ServiceProfileNotFoundException("Service Profile not found for user with ID: " + userId));
+    }
+
+    @Transactional
+    public ServiceProfileResponseDTO updateAvailability(UUID userId, List<AvailabilitySlotDTO> slotDtos) {
+        var profile = profileRepository.findByUserId(userId)
+                .orElseThrow(() -> new ServiceProfileNotFoundException("Service Profile not found for user with ID: " + userId));
+
+        profile.getAvailabilitySlots().clear();
+        profile.getAvailabilitySlots().addAll(toAvailabilitySlots(slotDtos));
+        // Collection-only changes do not dirty the profile, touch it so updatedAt (and the ETag) moves
+        profile.setUpdatedAt(LocalDateTime.now());
+
+        var savedProfile = profileRepository.save(profile);
+        availabilityIndex.replaceAfterCommit(savedProfile.getId(), savedProfile.getAvailabilitySlots());
+        recordProfileChanged(savedProfile);
+
+        return toResponseDto(savedProfile);
+    }
+
+    @Transactional
+    public ServiceProfileResponseDTO replaceServiceImage(UUID userId, String imageUrl) {
+        var profile = profileRepository.findByUserId(userId)
+                .orElseThrow(() -> new ServiceProfileNotFoundException("Service Profile not found for user with ID: " + userId));
+
+        profile.setServiceImageUrl(imageUrl);
+        // The thumbnail is generated in the background and attached once ready
+        profile.setServiceThumbnailUrl(null);
+
+        var savedProfile = profileRepository.save(profile);
+        recordProfileChanged(savedProfile);
+
+        return toResponseDto(savedProfile);
+    }
+
+    @Transactional
+    public void attachThumbnail(UUID profileId, String imageUrl, String thumbnailUrl) {
+        profileRepository.findById(profileId)
+                // Skip if a newer upload replaced the image while the thumbnail was being generated
+                .filter(profile -> imageUrl.equals(profile.getServiceImageUrl()))
+                .ifPresent(profile -> {
+                    profile.setServiceThumbnailUrl(thumbnailUrl);
+                    recordProfileChanged(profile);
+                });
+    }
+
+    // Answered from the in-memory availability index, only the matching profiles are loaded
+    @Transactional(readOnly = true)
+    public List<ServiceProfileResponseDTO> findAvailableServiceProfiles(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        var window = new AvailabilitySlot(dayOfWeek, startTime, endTime);
+        if (window.startMinute() >= window.endMinute()) {
+            throw new InvalidAvailabilitySlotException("The requested window must end after it starts.");
+        }
+
+        var profileIds = availabilityIndex.findAvailable(dayOfWeek, window.startMinute(), window.endMinute());
+        if (profileIds.isEmpty()) {
+            return List.of();
+        }
+        return profileRepository.findAllById(profileIds)
+                .stream()
+                .map(this::toResponseDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public UUID findUserIdByServiceProfileId(UUID profileId) {
         var profile = profileRepository.findById(profileId)
                 .orElseThrow(() -> new ServiceProfileNotFoundException("Profile not found with ID: " + profileId));
         return profile.getUser().getId();
     }
 
+    @Transactional(readOnly = true)
     public List<ServiceProfileResponseDTO> getAllServiceProfilesDTO() {
         var profiles = profileRepository.findAll();
         return profiles.stream().map(this::toResponseDto).toList();
@@ -4,7 +4,9 @@ import br.com.jobinder.identityservice.domain.specialty.Specialty;
 import br.com.jobinder.identityservice.domain.specialty.SpecialtyRepository;
 import br.com.jobinder.identityservice.dto.specialty.SpecialtyDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -22,8 +24,10 @@ public class SpecialtyService {
                 });
     }
 
+    @Transactional(readOnly = true)
     public List<SpecialtyDTO> findAll() {
-        return specialtyRepository.findAll()
+        // Stable ordering keeps the catalog ETag stable between requests
+        return specialtyRepository.findAll(Sort.by("name"))
                 .stream()
                 .map(s -> new SpecialtyDTO(s.getId(), s.getName()))
                 .toList();
@@ -0,0 +1,94 @@
+package br.com.jobinder.identityservice.service;
+
+import br.com.jobinder.identityservice.domain.outbox.OutboxEventType;
+import br.com.jobinder.identityservice.domain.serviceprofile.ServiceProfileRepository;
+import br.com.jobinder.identityservice.domain.user.UserRepository;
+import br.com.jobinder.identityservice.dto.event.UserDeletedEvent;
+import br.com.jobinder.identityservice.infra.availability.AvailabilityIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Hard-deletes soft-deleted users in small batches and tells the other services through the outbox
+@Component
+public class UserPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPurgeJob.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceProfileRepository profileRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private MediaService mediaService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${user.purge.batch-size:20}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${user.purge.interval-ms:5000}")
+    public void purgeDeletedUsers() {
+        try {
+            // One short transaction per batch, keep going while full batches come back
+            Integer purged;
+            do {
+                purged = transactionTemplate.execute(status -> purgeNextBatch());
+            } while (purged != null && purged == batchSize);
+        } catch (Exception e) {
+            // Users stay soft-deleted and are retried on the next run
+            log.warn("User purge failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private int purgeNextBatch() {
+        var userIds = userRepository.lockNextDeletedBatch(batchSize);
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        for (var userId : userIds) {
+            var profile = profileRepository.findByUserId(userId).orElse(null);
+            if (profile != null) {
+                availabilityIndex.replaceAfterCommit(profile.getId(), List.of());
+                deleteImagesAfterCommit(profile.getServiceImageUrl(), profile.getServiceThumbnailUrl());
+                // Removed through the session so the second-level cache entries are evicted as well
+                profileRepository.delete(profile);
+            }
+            outboxService.record(OutboxEventType.USER_DELETED, userId,
+                    new UserDeletedEvent(userId, profile == null ? null : profile.getId()));
+        }
+        // Profiles reference users, flush their deletes first
+        profileRepository.flush();
+        userRepository.deleteAllById(userIds);
+
+        log.info("Purged {} deleted users", userIds.size());
+        return userIds.size();
+    }
+
+    private void deleteImagesAfterCommit(String imageUrl, String thumbnailUrl) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mediaService.deleteServiceImages(imageUrl, thumbnailUrl);
+            }
+        });
+    }
+}
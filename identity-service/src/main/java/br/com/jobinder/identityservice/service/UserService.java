@@ -1,8 +1,12 @@
 package br.com.jobinder.identityservice.service;
 
+import br.com.jobinder.identityservice.domain.outbox.OutboxEventType;
 import br.com.jobinder.identityservice.domain.user.User;
 import br.com.jobinder.identityservice.domain.user.UserRepository;
+import br.com.jobinder.identityservice.dto.event.UserCreatedEvent;
+import br.com.jobinder.identityservice.dto.event.UserUpdatedEvent;
 import br.com.jobinder.identityservice.dto.internal.InternalUserAuthDTO;
+import br.com.jobinder.identityservice.dto.internal.UserSummaryDTO;
 import br.com.jobinder.identityservice.dto.user.UserChangePasswordDTO;
 import br.com.jobinder.identityservice.dto.user.UserCreateDTO;
 import br.com.jobinder.identityservice.dto.user.UserResponseDTO;
@@ -21,6 +25,8 @@ import com.google.i18n.phonenumbers.PhoneNumberUtil;
 import com.google.i18n.phonenumbers.Phonenumber.PhoneNumber;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -33,9 +39,22 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ProfileCardService profileCardService;
+
     // Thread-safe singleton instance of PhoneNumberUtil
     private final PhoneNumberUtil phoneUtil = PhoneNumberUtil.getInstance();
 
+    // Soft-deleted users are treated as gone while they wait to be purged
+    private User findActiveUser(UUID userId) {
+        return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+    }
+
     @Transactional
     public UserResponseDTO registerUser(UserCreateDTO createDTO) {
         PhoneNumber phoneNumber;
@@ -71,36 +90,50 @@ public class UserService {
                 encodedPassword,
                 createDTO.role(),
                 null,
+                null,
                 null
         );
 
         // Save the user to the database
         var savedUser = userRepository.save(user);
+        outboxService.record(OutboxEventType.USER_CREATED, savedUser.getId(), new UserCreatedEvent(
+                savedUser.getId(),
+                savedUser.getFirstName(),
+                savedUser.getLastName(),
+                savedUser.getRole().name()
+        ));
 
         return new UserResponseDTO(
                 savedUser.getId(),
                 savedUser.getPhone(),
                 savedUser.getFirstName(),
-                savedUser.getLastName()
+                savedUser.getLastName(),
+                savedUser.getUpdatedAt()
         );
     }
 
+    @Transactional(readOnly = true)
     public UserResponseDTO findUserDTOById(UUID userId) {
-        var user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+        var user = findActiveUser(userId);
 
         return new UserResponseDTO(
                 user.getId(),
                 user.getPhone(),
                 user.getFirstName(),
-                user.getLastName()
+                user.getLastName(),
+                user.getUpdatedAt()
         );
     }
 
+    @Transactional(readOnly = true)
+    public LocalDateTime findLastModifiedById(UUID userId) {
+        return userRepository.findUpdatedAtById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+    }
+
     @Transactional
     public UserResponseDTO updateUser(UUID userId, UserUpdateDTO updateDTO) {
-        var user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+        var user = findActiveUser(userId);
 
         // Update first name if provided
         if (updateDTO.firstName() != null && !updateDTO.firstName().isBlank()) {
@@ -112,20 +145,27 @@ public class UserService {
             user.setLastName(updateDTO.lastName());
         }
 
-        var savedUser = userRepository.save(user);
+        // Flushed so the response carries the new update timestamp
+        var savedUser = userRepository.saveAndFlush(user);
+        profileCardService.updateDisplayName(savedUser);
+        outboxService.record(OutboxEventType.USER_UPDATED, savedUser.getId(), new UserUpdatedEvent(
+                savedUser.getId(),
+                savedUser.getFirstName(),
+                savedUser.getLastName()
+        ));
 
         return new UserResponseDTO(
                 savedUser.getId(),
                 savedUser.getPhone(),
                 savedUser.getFirstName(),
-                savedUser.getLastName()
+                savedUser.getLastName(),
+                savedUser.getUpdatedAt()
         );
     }
 
     @Transactional
     public void changePassword(UUID userId, UserChangePasswordDTO passwordDTO) {
-        var user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+        var user = findActiveUser(userId);
 
         if (!passwordEncoder.matches(passwordDTO.oldPassword(), user.getPassword())) {
             throw new InvalidPasswordException("Old password does not match.");
@@ -135,16 +175,26 @@ public class UserService {
         userRepository.save(user);
     }
 
+    // Only marks the account; UserPurgeJob removes the profile and user and emits USER_DELETED
     @Transactional
     public void deleteUser(UUID userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new UserNotFoundException("User not found with ID: " + userId);
-        }
-        userRepository.deleteById(userId);
+        var user = findActiveUser(userId);
+        user.setDeletedAt(LocalDateTime.now());
+        userRepository.save(user);
+        // Drop out of browse results right away instead of waiting for the purge
+        profileCardService.deleteByUserId(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserSummaryDTO> findUserSummaries(List<UUID> userIds) {
+        return userRepository.findSummariesByIdIn(new HashSet<>(userIds));
     }
 
+    @Transactional(readOnly = true)
     public InternalUserAuthDTO findAuthDetailsByPhone(String phone) {
-        var user = userRepository.findByPhone(phone)
+        // Natural-id lookup, answered from the second-level cache for repeat logins
+        var user = userRepository.findByNaturalPhone(phone)
+                .filter(u -> !u.isDeleted())
                 .orElseThrow(() -> new UserNotFoundException("User not found with phone: " + phone));
 
         return new InternalUserAuthDTO(
@@ -155,11 +205,13 @@ public class UserService {
         );
     }
 
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMIN')")
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMIN')")
     public User findUserById(UUID userId) {
         return userRepository.findById(userId)
@@ -0,0 +1,44 @@
+package br.com.jobinder.identityservice.controller;
+
+import br.com.jobinder.identityservice.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserControllerTest {
+
+    private UserService userService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService)).build();
+    }
+
+    @Test
+    @DisplayName("Should delete the authenticated user identified by the JWT principal name")
+    void deleteMe_ShouldDeleteUserFromJwtPrincipal() throws Exception {
+        var userId = UUID.randomUUID();
+        // Same shape of authentication the JWT filter creates: the principal is the user ID string
+        var authentication = new UsernamePasswordAuthenticationToken(userId.toString(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_CLIENT")));
+
+        mockMvc.perform(delete("/api/v1/users/me").principal(authentication))
+                .andExpect(status().isAccepted());
+
+        verify(userService).deleteUser(userId);
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.jobinder.identityservice.infra.availability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    private static Set<UUID> query(IntervalTree tree, int from, int to) {
+        Set<UUID> result = new HashSet<>();
+        tree.findContaining(from, to, result::add);
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should return only intervals that contain the whole window")
+    void findContaining_ShouldReturnCoveringIntervals() {
+        var tree = new IntervalTree();
+        var morning = UUID.randomUUID();
+        var allDay = UUID.randomUUID();
+        var evening = UUID.randomUUID();
+        tree.insert(8 * 60, 12 * 60, morning);
+        tree.insert(0, 24 * 60, allDay);
+        tree.insert(18 * 60, 22 * 60, evening);
+
+        assertThat(query(tree, 9 * 60, 11 * 60)).containsExactlyInAnyOrder(morning, allDay);
+        assertThat(query(tree, 11 * 60, 13 * 60)).containsExactly(allDay);
+        assertThat(query(tree, 18 * 60, 22 * 60)).containsExactlyInAnyOrder(evening, allDay);
+    }
+
+    @Test
+    @DisplayName("Should stop returning an interval after it is removed")
+    void remove_ShouldDropInterval() {
+        var tree = new IntervalTree();
+        var profileId = UUID.randomUUID();
+        tree.insert(600, 720, profileId);
+        tree.remove(600, 720, profileId);
+
+        assertThat(tree.size()).isZero();
+        assertThat(query(tree, 600, 660)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should agree with a linear scan after random inserts and removals")
+    void randomOperations_ShouldMatchLinearScan() {
+        var tree = new IntervalTree();
+        var random = new Random(42);
+        var starts = new int[500];
+        var ends = new int[500];
+        var ids = new UUID[500];
+        for (int i = 0; i < ids.length; i++) {
+            starts[i] = random.nextInt(1400);
+            ends[i] = starts[i] + 1 + random.nextInt(1440 - starts[i]);
+            ids[i] = UUID.randomUUID();
+            tree.insert(starts[i], ends[i], ids[i]);
+        }
+        for (int i = 0; i < ids.length; i += 3) {
+            tree.remove(starts[i], ends[i], ids[i]);
+        }
+
+        for (int q = 0; q < 200; q++) {
+            int from = random.nextInt(1400);
+            int to = from + 1 + random.nextInt(1440 - from);
+            Set<UUID> expected = new HashSet<>();
+            for (int i = 0; i < ids.length; i++) {
+                if (i % 3 != 0 && starts[i] <= from && ends[i] >= to) {
+                    expected.add(ids[i]);
+                }
+            }
+            assertThat(query(tree, from, to)).isEqualTo(expected);
+        }
+    }
+}
@@ -1,14 +1,29 @@
 package br.com.jobinder.matchingservice.client;
 
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
 import br.com.jobinder.matchingservice.dto.ProfileUserDTO;
+import br.com.jobinder.matchingservice.dto.UserSummaryDTO;
+import br.com.jobinder.matchingservice.dto.UserSummaryRequestDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "identity-service", url = "${identity-service.url}")
 public interface IdentityServiceClient {
     @GetMapping("/api/v1/service-profiles/{profileId}/user")
     ProfileUserDTO getUserIdByProfileId(@PathVariable("profileId") UUID profileId);
+
+    // Relative to identity-service.url, which already ends in /api/v1
+    @GetMapping("/profile-cards")
+    List<ProfileCardDTO> browseProfileCards(@RequestParam("page") int page, @RequestParam("size") int size);
+
+    // Up to 100 users per call; deleted and unknown users are missing from the result
+    @PostMapping("/internal/users/summaries")
+    List<UserSummaryDTO> findUserSummaries(@RequestBody UserSummaryRequestDTO request);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package br.com.jobinder.matchingservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class DeckConfig {
+
+    @Value("${deck.refill.pool-size:4}")
+    private int poolSize;
+
+    @Value("${deck.refill.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // Refills call identity-service, so they run here instead of on request threads
+    @Bean
+    public ThreadPoolTaskExecutor deckRefillExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("deck-refill-");
+        executor.initialize();
+        return executor;
+    }
+}
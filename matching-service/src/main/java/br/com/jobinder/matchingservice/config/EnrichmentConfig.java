@@ -0,0 +1,28 @@
+package br.com.jobinder.matchingservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class EnrichmentConfig {
+
+    @Value("${enrichment.pool-size:16}")
+    private int poolSize;
+
+    @Value("${enrichment.queue-capacity:200}")
+    private int queueCapacity;
+
+    // Shared by all requests, so the total number of concurrent identity-service calls stays bounded
+    @Bean
+    public ThreadPoolTaskExecutor enrichmentExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("match-enrichment-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.jobinder.matchingservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class NotificationConfig {
+
+    @Value("${notifications.send.pool-size:8}")
+    private int poolSize;
+
+    @Value("${notifications.send.queue-capacity:50000}")
+    private int queueCapacity;
+
+    // Writes to SSE connections; idle streams hold no thread, only streams with pending events do
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("match-stream-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,6 +1,11 @@
 package br.com.jobinder.matchingservice.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,11 +19,111 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.queues.match-created}")
     private String matchCreatedQueue;
 
+    @Value("${rabbitmq.queues.user-deleted}")
+    private String userDeletedQueue;
+
+    @Value("${rabbitmq.exchanges.identity-events}")
+    private String identityEventsExchange;
+
+    @Value("${rabbitmq.exchanges.match-list-invalidation}")
+    private String matchListInvalidationExchange;
+
+    @Value("${rabbitmq.exchanges.match-notifications}")
+    private String matchNotificationsExchange;
+
+    @Value("${rabbitmq.exchanges.like-inbox}")
+    private String likeInboxExchange;
+
     @Bean
     public Queue matchCreatedQueue() {
         return new Queue(matchCreatedQueue, true);
     }
 
+    @Bean
+    public TopicExchange identityEventsExchange() {
+        return new TopicExchange(identityEventsExchange);
+    }
+
+    @Bean
+    public Queue userDeletedQueue() {
+        return new Queue(userDeletedQueue, true);
+    }
+
+    @Bean
+    public Binding userDeletedBinding() {
+        return BindingBuilder.bind(userDeletedQueue()).to(identityEventsExchange()).with("user.deleted");
+    }
+
+    // Every replica also drops deleted users from its in-memory state (recommendations, like inbox)
+    @Bean
+    public Queue replicaUserDeletedQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding replicaUserDeletedBinding() {
+        return BindingBuilder.bind(replicaUserDeletedQueue()).to(identityEventsExchange()).with("user.deleted");
+    }
+
+    // Per replica as well: profile changes drop the user's cached role on every node
+    @Bean
+    public Queue replicaProfileChangedQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding replicaProfileChangedBinding() {
+        return BindingBuilder.bind(replicaProfileChangedQueue()).to(identityEventsExchange()).with("profile.changed");
+    }
+
+    @Bean
+    public FanoutExchange matchListInvalidationExchange() {
+        return new FanoutExchange(matchListInvalidationExchange);
+    }
+
+    // Server-named, exclusive and auto-delete: one per replica, gone when the replica stops
+    @Bean
+    public Queue matchListInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding matchListInvalidationBinding() {
+        return BindingBuilder.bind(matchListInvalidationQueue()).to(matchListInvalidationExchange());
+    }
+
+    @Bean
+    public FanoutExchange matchNotificationsExchange() {
+        return new FanoutExchange(matchNotificationsExchange);
+    }
+
+    // Per replica, like the invalidation queue: every node pushes to the streams it holds
+    @Bean
+    public Queue matchNotificationsQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding matchNotificationsBinding() {
+        return BindingBuilder.bind(matchNotificationsQueue()).to(matchNotificationsExchange());
+    }
+
+    @Bean
+    public FanoutExchange likeInboxExchange() {
+        return new FanoutExchange(likeInboxExchange);
+    }
+
+    // Per replica: each node keeps its own copy of every inbox
+    @Bean
+    public Queue likeInboxQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding likeInboxBinding() {
+        return BindingBuilder.bind(likeInboxQueue()).to(likeInboxExchange());
+    }
+
     @Bean
     public Jackson2JsonMessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
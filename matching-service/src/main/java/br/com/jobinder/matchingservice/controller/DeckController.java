@@ -0,0 +1,44 @@
+package br.com.jobinder.matchingservice.controller;
+
+import br.com.jobinder.matchingservice.dto.DeckResponseDTO;
+import br.com.jobinder.matchingservice.service.DeckService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/deck")
+public class DeckController {
+
+    @Autowired
+    private DeckService deckService;
+
+    @Operation(summary = "Get the next swipe candidates",
+            description = "Returns the next professionals to show the authenticated user, excluding matched and already swiped ones. " +
+                    "The deck is prepared in the background; when it comes back short with refilling=true, ask again shortly.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Candidates retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DeckResponseDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized (invalid or missing token)",
+                    content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<DeckResponseDTO> getDeck(@RequestParam(defaultValue = "10") int size, Authentication authentication) {
+        UUID clientUserId = UUID.fromString(authentication.getName());
+        return ResponseEntity.ok(deckService.nextCandidates(clientUserId, size));
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.jobinder.matchingservice.controller;
+
+import br.com.jobinder.matchingservice.dto.BulkLikeCreateDTO;
+import br.com.jobinder.matchingservice.dto.BulkLikeResponseDTO;
+import br.com.jobinder.matchingservice.dto.LikeCreateDTO;
+import br.com.jobinder.matchingservice.dto.LikeResponseDTO;
+import br.com.jobinder.matchingservice.dto.ReceivedLikeCountDTO;
+import br.com.jobinder.matchingservice.dto.ReceivedLikesDTO;
+import br.com.jobinder.matchingservice.service.LikeInboxService;
+import br.com.jobinder.matchingservice.service.LikeQuotaService;
+import br.com.jobinder.matchingservice.service.LikeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/likes")
+public class LikeController {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeQuotaService likeQuotaService;
+
+    @Autowired
+    private LikeInboxService likeInboxService;
+
+    @Operation(summary = "Like a user",
+            description = "Records a one-sided like from the authenticated user. Clients can only like professionals and professionals only clients. " +
+                    "When the other user already liked them back, a match is created and the chat is enabled.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Like recorded; matched is true when it completed a mutual match",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = LikeResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (invalid input data, liking yourself, an unknown user or a user on the same side)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized (invalid or missing token)",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Conflict (a match between these users already exists)",
+                    content = @Content),
+            @ApiResponse(responseCode = "429", description = "Daily like limit reached; Retry-After gives the seconds until it resets",
+                    content = @Content)
+    })
+    @PostMapping
+    public ResponseEntity<LikeResponseDTO> like(@RequestBody @Valid LikeCreateDTO likeCreateDTO, Authentication authentication) {
+        UUID likerUserId = UUID.fromString(authentication.getName());
+        likeQuotaService.acquire(likerUserId, 1);
+        var response = likeService.like(likerUserId, likeCreateDTO.likedUserId());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Like many users at once",
+            description = "Replays a queue of swipes from an offline client in a single transaction. " +
+                    "Duplicate IDs are collapsed; each distinct ID gets its own status: " +
+                    "LIKED, MATCHED (with the new matchId), ALREADY_LIKED for replays, or INVALID for the user's own ID, " +
+                    "unknown users and users on the same side (a client liking a client or a professional liking a professional).",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Likes processed; see the status of each item",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkLikeResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (empty list or more than 500 IDs)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized (invalid or missing token)",
+                    content = @Content),
+            @ApiResponse(responseCode = "429", description = "Not enough likes left today for the whole batch; nothing was recorded",
+                    content = @Content)
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkLikeResponseDTO> likeAll(@RequestBody @Valid BulkLikeCreateDTO bulkLikeCreateDTO, Authentication authentication) {
+        UUID likerUserId = UUID.fromString(authentication.getName());
+        likeQuotaService.acquire(likerUserId, new HashSet<>(bulkLikeCreateDTO.likedUserIds()).size());
+        var response = likeService.likeAll(likerUserId, bulkLikeCreateDTO.likedUserIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Count my pending incoming likes",
+            description = "Number of users who liked the authenticated user and have not been liked back yet. " +
+                    "Served from memory, suitable for polling a badge.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Count retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ReceivedLikeCountDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized (invalid or missing token)",
+                    content = @Content)
+    })
+    @GetMapping("/received/count")
+    public ResponseEntity<ReceivedLikeCountDTO> countReceived(Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        return ResponseEntity.ok(likeInboxService.countReceived(userId));
+    }
+
+    @Operation(summary = "List who liked me",
+            description = "The most recent users who liked the authenticated user and have not been liked back yet, newest first, " +
+                    "with the total pending count. Liking one of them back creates the match.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pending likes retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ReceivedLikesDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized (invalid or missing token)",
+                    content = @Content)
+    })
+    @GetMapping("/received")
+    public ResponseEntity<ReceivedLikesDTO> findReceived(@RequestParam(defaultValue = "20") int limit, Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        return ResponseEntity.ok(likeInboxService.findReceived(userId, limit));
+    }
+}
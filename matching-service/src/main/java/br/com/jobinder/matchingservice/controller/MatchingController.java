@@ -1,8 +1,19 @@
 package br.com.jobinder.matchingservice.controller;
 
 import br.com.jobinder.matchingservice.domain.match.Match;
+import br.com.jobinder.matchingservice.dto.EnrichedMatchPageDTO;
+import br.com.jobinder.matchingservice.dto.MatchAnalyticsDTO;
 import br.com.jobinder.matchingservice.dto.MatchCreateDTO;
+import br.com.jobinder.matchingservice.dto.MatchPageDTO;
 import br.com.jobinder.matchingservice.dto.MatchResponseDTO;
+import br.com.jobinder.matchingservice.dto.MatchSummaryDTO;
+import br.com.jobinder.matchingservice.infra.analytics.MatchDimension;
+import br.com.jobinder.matchingservice.infra.analytics.MatchGranularity;
+import br.com.jobinder.matchingservice.service.LikeQuotaService;
+import br.com.jobinder.matchingservice.service.LikeService;
+import br.com.jobinder.matchingservice.service.MatchAnalyticsService;
+import br.com.jobinder.matchingservice.service.MatchEnrichmentService;
+import br.com.jobinder.matchingservice.service.MatchNotificationService;
 import br.com.jobinder.matchingservice.service.MatchingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,11 +22,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,12 +41,28 @@ public class MatchingController {
     @Autowired
     private MatchingService matchingService;
 
-    @Operation(summary = "Create a new match",
-            description = "Creates a match (like) from the authenticated user (assumed to be the 'client') to a professional. " +
-                    "This action enables the chat between the two users.",
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private MatchEnrichmentService matchEnrichmentService;
+
+    @Autowired
+    private MatchNotificationService matchNotificationService;
+
+    @Autowired
+    private LikeQuotaService likeQuotaService;
+
+    @Autowired
+    private MatchAnalyticsService matchAnalyticsService;
+
+    @Operation(summary = "Like a professional",
+            description = "Records a like from the authenticated user to a professional. " +
+                    "The match is created, and the chat enabled, only once the professional likes the user back. " +
+                    "Equivalent to POST /api/v1/likes.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Match created successfully",
+            @ApiResponse(responseCode = "200", description = "Like recorded; matchId is set when it completed a mutual match",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = MatchResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Bad request (invalid input data)",
@@ -39,13 +70,41 @@ public class MatchingController {
             @ApiResponse(responseCode = "401", description = "Unauthorized (invalid or missing token)",
                     content = @Content),
             @ApiResponse(responseCode = "409", description = "Conflict (a match between these users already exists)",
+                    content = @Content),
+            @ApiResponse(responseCode = "429", description = "Daily like limit reached; Retry-After gives the seconds until it resets",
                     content = @Content)
     })
     @PostMapping
     public ResponseEntity<MatchResponseDTO> createMatch(@RequestBody MatchCreateDTO matchCreateDTO, Authentication authentication) {
         UUID clientUserId = UUID.fromString(authentication.getName());
-        var response = matchingService.createMatch(clientUserId, matchCreateDTO);
-        return ResponseEntity.ok(response);
+        likeQuotaService.acquire(clientUserId, 1);
+        var like = likeService.like(clientUserId, matchCreateDTO.professionalUserId());
+        return ResponseEntity.ok(new MatchResponseDTO(like.matchId(), like.message()));
+    }
+
+    @Operation(summary = "Stream new matches",
+            description = "Server-Sent Events stream of the authenticated user's new matches, on either side. " +
+                    "Each 'match' event carries an ID; reconnecting with it in the Last-Event-ID header replays what was missed, " +
+                    "along with a few matches already delivered just before it, so clients should de-duplicate by matchId. " +
+                    "A 'resync' event means events were dropped and the match list should be reloaded. " +
+                    "Heartbeat comments keep idle connections open.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = "text/event-stream",
+                            schema = @Schema(implementation = MatchSummaryDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (invalid Last-Event-ID)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "Too many open streams, retry later",
+                    content = @Content)
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMatches(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                    Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        return matchNotificationService.subscribe(userId, lastEventId);
     }
 
     @Operation(summary = "Get a specific match by ID",
@@ -70,40 +129,102 @@ public class MatchingController {
     }
 
     @Operation(summary = "Get matches by Client ID",
-            description = "Retrieves all matches for a specific client. " +
+            description = "Retrieves the matches of a specific client, newest first, one page at a time. " +
+                    "Pass the nextCursor of a page to get the following one. " +
                     "A user can only retrieve their own matches. Admins can retrieve any.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Matches retrieved successfully",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = MatchResponseDTO.class))),
+                            schema = @Schema(implementation = MatchPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (invalid cursor)",
+                    content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content),
             @ApiResponse(responseCode = "403", description = "Forbidden (user trying to access another user's matches)",
                     content = @Content)
     })
     @GetMapping("/client/{clientId}")
-    public ResponseEntity<List<MatchResponseDTO>> getMatchesByClientId(@PathVariable UUID clientId) {
-        var response = matchingService.findMatchesByClientId(clientId);
+    public ResponseEntity<MatchPageDTO> getMatchesByClientId(@PathVariable UUID clientId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        var response = matchingService.findMatchesByClientId(clientId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get enriched matches by Client ID",
+            description = "Same page as GET /client/{clientId}, with each counterpart's name, specialty and thumbnail " +
+                    "fetched from identity-service in batched, concurrent calls. " +
+                    "Counterparts that could not be fetched in time have null fields and the page is flagged as partial. " +
+                    "A user can only retrieve their own matches. Admins can retrieve any.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matches retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EnrichedMatchPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (invalid cursor)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden (user trying to access another user's matches)",
+                    content = @Content)
+    })
+    @GetMapping("/client/{clientId}/enriched")
+    @PreAuthorize("authentication.name == #clientId.toString() or hasRole('ADMIN')")
+    public ResponseEntity<EnrichedMatchPageDTO> getEnrichedMatchesByClientId(@PathVariable UUID clientId,
+                                                                             @RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "20") int size) {
+        var response = matchEnrichmentService.findEnrichedMatchesByClientId(clientId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "Get matches by Professional ID",
-            description = "Retrieves all matches for a specific professional. " +
+            description = "Retrieves the matches of a specific professional, newest first, one page at a time. " +
+                    "Pass the nextCursor of a page to get the following one. " +
                     "A user can only retrieve their own matches. Admins can retrieve any.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Matches retrieved successfully",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = MatchResponseDTO.class))),
+                            schema = @Schema(implementation = MatchPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (invalid cursor)",
+                    content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content),
             @ApiResponse(responseCode = "403", description = "Forbidden (user trying to access another user's matches)",
                     content = @Content)
     })
     @GetMapping("/professional/{professionalId}")
-    public ResponseEntity<List<MatchResponseDTO>> getMatchesByProfessionalId(@PathVariable UUID professionalId) {
-        var response = matchingService.findMatchesByProfessionalId(professionalId);
+    public ResponseEntity<MatchPageDTO> getMatchesByProfessionalId(@PathVariable UUID professionalId,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        var response = matchingService.findMatchesByProfessionalId(professionalId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get enriched matches by Professional ID",
+            description = "Same page as GET /professional/{professionalId}, with each counterpart's name, specialty and thumbnail " +
+                    "fetched from identity-service in batched, concurrent calls. " +
+                    "Counterparts that could not be fetched in time have null fields and the page is flagged as partial. " +
+                    "A user can only retrieve their own matches. Admins can retrieve any.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matches retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = EnrichedMatchPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (invalid cursor)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden (user trying to access another user's matches)",
+                    content = @Content)
+    })
+    @GetMapping("/professional/{professionalId}/enriched")
+    @PreAuthorize("authentication.name == #professionalId.toString() or hasRole('ADMIN')")
+    public ResponseEntity<EnrichedMatchPageDTO> getEnrichedMatchesByProfessionalId(@PathVariable UUID professionalId,
+                                                                                   @RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(defaultValue = "20") int size) {
+        var response = matchEnrichmentService.findEnrichedMatchesByProfessionalId(professionalId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -128,4 +249,27 @@ public class MatchingController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "[Admin] Match analytics",
+            description = "Matches created per hour or per day, in total or broken down by the professional's specialty or city, " +
+                    "for buckets in [from, to). Defaults to the last 7 days. Served from in-memory counters, " +
+                    "so dashboards should use this instead of listing all matches. (Requires ADMIN role)",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Analytics retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchAnalyticsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request (unknown granularity or dimension, malformed date)", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden (insufficient permissions)", content = @Content)
+    })
+    @GetMapping("/admin/analytics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MatchAnalyticsDTO> getAnalytics(
+            @RequestParam(defaultValue = "DAY") MatchGranularity granularity,
+            @RequestParam(defaultValue = "ALL") MatchDimension dimension,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        var response = matchAnalyticsService.getAnalytics(granularity, dimension, from, to);
+        return ResponseEntity.ok(response);
+    }
+
 }
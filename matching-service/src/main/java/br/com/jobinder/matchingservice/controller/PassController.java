@@ -0,0 +1,44 @@
+package br.com.jobinder.matchingservice.controller;
+
+import br.com.jobinder.matchingservice.dto.PassCreateDTO;
+import br.com.jobinder.matchingservice.service.SeenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/passes")
+public class PassController {
+
+    @Autowired
+    private SeenService seenService;
+
+    @Operation(summary = "Pass on a user",
+            description = "Records that the authenticated user swiped left on another user, so they are not shown again.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Pass recorded"),
+            @ApiResponse(responseCode = "400", description = "Bad request (invalid input data)",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized (invalid or missing token)",
+                    content = @Content)
+    })
+    @PostMapping
+    public ResponseEntity<Void> pass(@RequestBody @Valid PassCreateDTO passCreateDTO, Authentication authentication) {
+        UUID userId = UUID.fromString(authentication.getName());
+        seenService.markSeen(userId, passCreateDTO.passedUserId());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.jobinder.matchingservice.controller;
+
+import br.com.jobinder.matchingservice.dto.RecommendationDTO;
+import br.com.jobinder.matchingservice.service.RecommendationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/recommendations")
+public class RecommendationController {
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Operation(summary = "Get professionals that clients like me also matched",
+            description = "Returns professionals the authenticated client has not matched yet, ranked by how often they were matched " +
+                    "by clients who share the caller's recent matches. Empty until the client has at least one match.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recommendations retrieved successfully, best first",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = RecommendationDTO.class)))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized (invalid or missing token)",
+                    content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<List<RecommendationDTO>> getRecommendations(@RequestParam(defaultValue = "20") int limit, Authentication authentication) {
+        UUID clientUserId = UUID.fromString(authentication.getName());
+        return ResponseEntity.ok(recommendationService.recommendFor(clientUserId, limit));
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.jobinder.matchingservice.domain.analytics;
+
+import br.com.jobinder.matchingservice.infra.analytics.MatchDimension;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Checkpoint of one hourly match counter; dimensionValue is empty for the ALL dimension
+@Entity(name = "MatchStat")
+@Table(name = "match_stats")
+@IdClass(MatchStatId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"hourStart", "dimension", "dimensionValue"})
+public class MatchStat {
+
+    @Id
+    private LocalDateTime hourStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private MatchDimension dimension;
+
+    @Id
+    private String dimensionValue;
+
+    @Column(nullable = false)
+    private long matches;
+}
@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.domain.analytics;
+
+import java.util.List;
+
+public interface MatchStatBatchRepository {
+    // Keeps the larger of the stored and the given count for each counter in one statement and returns
+    // the stored values: every replica counts every match, so the highest checkpoint is the most complete
+    List<MatchStat> mergeMax(List<MatchStat> stats);
+}
@@ -0,0 +1,46 @@
+package br.com.jobinder.matchingservice.domain.analytics;
+
+import br.com.jobinder.matchingservice.infra.analytics.MatchDimension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MatchStatBatchRepositoryImpl implements MatchStatBatchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<MatchStat> mergeMax(List<MatchStat> stats) {
+        List<MatchStat> stored = new ArrayList<>(stats.size());
+        if (stats.isEmpty()) {
+            return stored;
+        }
+        Timestamp[] hours = stats.stream().map(stat -> Timestamp.valueOf(stat.getHourStart())).toArray(Timestamp[]::new);
+        String[] dimensions = stats.stream().map(stat -> stat.getDimension().name()).toArray(String[]::new);
+        String[] values = stats.stream().map(MatchStat::getDimensionValue).toArray(String[]::new);
+        Long[] matches = stats.stream().map(MatchStat::getMatches).toArray(Long[]::new);
+        jdbcTemplate.query("""
+                        INSERT INTO match_stats (hour_start, dimension, dimension_value, matches)
+                        SELECT * FROM unnest(?, ?, ?, ?)
+                        ON CONFLICT (hour_start, dimension, dimension_value)
+                            DO UPDATE SET matches = GREATEST(match_stats.matches, excluded.matches)
+                        RETURNING hour_start, dimension, dimension_value, matches""",
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("timestamp", hours));
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", dimensions));
+                    ps.setArray(3, ps.getConnection().createArrayOf("varchar", values));
+                    ps.setArray(4, ps.getConnection().createArrayOf("bigint", matches));
+                },
+                rs -> {
+                    stored.add(new MatchStat(rs.getTimestamp("hour_start").toLocalDateTime(),
+                            MatchDimension.valueOf(rs.getString("dimension")),
+                            rs.getString("dimension_value"),
+                            rs.getLong("matches")));
+                });
+        return stored;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.jobinder.matchingservice.domain.analytics;
+
+import br.com.jobinder.matchingservice.infra.analytics.MatchDimension;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class MatchStatId implements Serializable {
+    private LocalDateTime hourStart;
+    private MatchDimension dimension;
+    private String dimensionValue;
+}
@@ -0,0 +1,18 @@
+package br.com.jobinder.matchingservice.domain.analytics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MatchStatRepository extends JpaRepository<MatchStat, MatchStatId>, MatchStatBatchRepository {
+
+    List<MatchStat> findAllByHourStartGreaterThanEqual(LocalDateTime hourStart);
+
+    @Modifying
+    @Query("delete from MatchStat s where s.hourStart < :hourStart")
+    int deleteByHourStartBefore(@Param("hourStart") LocalDateTime hourStart);
+}
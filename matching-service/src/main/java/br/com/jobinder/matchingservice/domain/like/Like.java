@@ -0,0 +1,30 @@
+package br.com.jobinder.matchingservice.domain.like;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One-sided like; the composite primary key makes the reciprocal check a single index probe
+// "Like" is an HQL keyword, hence the entity name
+@Entity(name = "UserLike")
+// Incoming likes are read by liked user, newest first
+@Table(name = "likes", indexes = @Index(name = "idx_likes_liked_created", columnList = "likedUserId, createdAt"))
+@IdClass(LikeId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = {"likerUserId", "likedUserId"})
+public class Like {
+
+    @Id
+    private UUID likerUserId;
+
+    @Id
+    private UUID likedUserId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
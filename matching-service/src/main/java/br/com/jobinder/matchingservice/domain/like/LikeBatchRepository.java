@@ -0,0 +1,13 @@
+package br.com.jobinder.matchingservice.domain.like;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface LikeBatchRepository {
+    // Takes the pair locks of a whole batch in ascending key order, so concurrent batches cannot deadlock
+    void lockPairs(long[] pairKeys);
+
+    // One JDBC batch of INSERT ... ON CONFLICT DO NOTHING; element i is true if likedUserIds[i] was a new like
+    boolean[] insertAllIgnoringConflicts(UUID likerUserId, List<UUID> likedUserIds, LocalDateTime createdAt);
+}
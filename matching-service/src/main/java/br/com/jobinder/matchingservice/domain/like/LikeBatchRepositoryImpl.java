@@ -0,0 +1,49 @@
+package br.com.jobinder.matchingservice.domain.like;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public class LikeBatchRepositoryImpl implements LikeBatchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockPairs(long[] pairKeys) {
+        if (pairKeys.length == 0) {
+            return;
+        }
+        Long[] sorted = Arrays.stream(pairKeys).sorted().distinct().boxed().toArray(Long[]::new);
+        // Volatile calls are evaluated after the sort, so the locks are taken in key order
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(k) FROM unnest(?) AS k ORDER BY k",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", sorted)),
+                rs -> {
+                });
+    }
+
+    @Override
+    public boolean[] insertAllIgnoringConflicts(UUID likerUserId, List<UUID> likedUserIds, LocalDateTime createdAt) {
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "INSERT INTO likes (liker_user_id, liked_user_id, created_at) VALUES (?, ?, ?) ON CONFLICT DO NOTHING",
+                likedUserIds,
+                likedUserIds.size(),
+                (ps, likedUserId) -> {
+                    ps.setObject(1, likerUserId);
+                    ps.setObject(2, likedUserId);
+                    ps.setObject(3, createdAt);
+                });
+        boolean[] inserted = new boolean[likedUserIds.size()];
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted[i++] = count > 0;
+            }
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.jobinder.matchingservice.domain.like;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LikeId implements Serializable {
+    private UUID likerUserId;
+    private UUID likedUserId;
+}
@@ -0,0 +1,8 @@
+package br.com.jobinder.matchingservice.domain.like;
+
+public interface LikeOutcome {
+    // False when the like was already recorded
+    boolean getInserted();
+
+    boolean getReciprocal();
+}
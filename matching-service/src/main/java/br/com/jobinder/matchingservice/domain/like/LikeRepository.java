@@ -0,0 +1,75 @@
+package br.com.jobinder.matchingservice.domain.like;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface LikeRepository extends JpaRepository<Like, LikeId>, LikeBatchRepository {
+
+    // Same key for (a, b) and (b, a)
+    static long pairKey(UUID first, UUID second) {
+        UUID low = first.compareTo(second) <= 0 ? first : second;
+        UUID high = low == first ? second : first;
+        long h = low.getMostSignificantBits() * 31 + low.getLeastSignificantBits();
+        h = h * 31 + high.getMostSignificantBits();
+        h = h * 31 + high.getLeastSignificantBits();
+        return h ^ (h >>> 29);
+    }
+
+    // Transaction-scoped lock on the unordered pair, so two users liking each other at the same
+    // time are serialized and the second one is guaranteed to see the first like
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:pairKey)) AS pair_lock", nativeQuery = true)
+    int lockPair(@Param("pairKey") long pairKey);
+
+    // Records the like and probes the reverse one by primary key in a single round-trip
+    @Query(value = "WITH inserted AS (" +
+            "INSERT INTO likes (liker_user_id, liked_user_id, created_at) VALUES (:likerUserId, :likedUserId, :createdAt) " +
+            "ON CONFLICT DO NOTHING RETURNING 1) " +
+            "SELECT EXISTS (SELECT 1 FROM inserted) AS inserted, " +
+            "EXISTS (SELECT 1 FROM likes WHERE liker_user_id = :likedUserId AND liked_user_id = :likerUserId) AS reciprocal",
+            nativeQuery = true)
+    LikeOutcome insertAndCheckReciprocal(@Param("likerUserId") UUID likerUserId,
+                                         @Param("likedUserId") UUID likedUserId,
+                                         @Param("createdAt") LocalDateTime createdAt);
+
+    // Which of these users already liked the given user back
+    @Query("select l.likerUserId from UserLike l where l.likedUserId = :userId and l.likerUserId in :candidateUserIds")
+    Set<UUID> findLikersAmong(@Param("userId") UUID userId, @Param("candidateUserIds") Collection<UUID> candidateUserIds);
+
+    // A like is pending while the reverse like does not exist; once it does, the pair is a match
+    String PENDING = "NOT EXISTS (SELECT 1 FROM likes r WHERE r.liker_user_id = l.liked_user_id AND r.liked_user_id = l.liker_user_id)";
+
+    @Query(value = "SELECT l.liked_user_id AS \"ownerUserId\", count(*) AS pending FROM likes l WHERE " + PENDING +
+            " GROUP BY l.liked_user_id", nativeQuery = true)
+    Stream<PendingCountView> streamPendingCounts();
+
+    // The newest pending likers of every user, for the startup load of the inbox rings
+    @Query(value = "SELECT \"ownerUserId\", \"likerUserId\", \"createdAt\" FROM (" +
+            "SELECT l.liked_user_id AS \"ownerUserId\", l.liker_user_id AS \"likerUserId\", l.created_at AS \"createdAt\", " +
+            "row_number() OVER (PARTITION BY l.liked_user_id ORDER BY l.created_at DESC) AS rn " +
+            "FROM likes l WHERE " + PENDING + ") newest WHERE rn <= :perUser ORDER BY \"ownerUserId\", \"createdAt\" DESC",
+            nativeQuery = true)
+    Stream<PendingLikeView> streamNewestPending(@Param("perUser") int perUser);
+
+    @Query(value = "SELECT count(*) FROM likes l WHERE l.liked_user_id = :userId AND " + PENDING, nativeQuery = true)
+    int countPending(@Param("userId") UUID userId);
+
+    @Query(value = "SELECT l.liked_user_id AS \"ownerUserId\", l.liker_user_id AS \"likerUserId\", l.created_at AS \"createdAt\" " +
+            "FROM likes l WHERE l.liked_user_id = :userId AND " + PENDING + " ORDER BY l.created_at DESC LIMIT :limit",
+            nativeQuery = true)
+    List<PendingLikeView> findNewestPending(@Param("userId") UUID userId, @Param("limit") int limit);
+
+    // Deletes at most :limit of the likes the user sent or received, so each batch holds its locks briefly
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE (liker_user_id, liked_user_id) IN (SELECT liker_user_id, liked_user_id FROM likes " +
+            "WHERE liker_user_id = :userId OR liked_user_id = :userId LIMIT :limit)", nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") UUID userId, @Param("limit") int limit);
+}
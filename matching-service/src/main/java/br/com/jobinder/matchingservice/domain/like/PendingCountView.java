@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.domain.like;
+
+import java.util.UUID;
+
+public interface PendingCountView {
+    UUID getOwnerUserId();
+
+    long getPending();
+}
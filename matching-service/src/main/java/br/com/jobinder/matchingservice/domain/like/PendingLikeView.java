@@ -0,0 +1,12 @@
+package br.com.jobinder.matchingservice.domain.like;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface PendingLikeView {
+    UUID getOwnerUserId();
+
+    UUID getLikerUserId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,37 @@
+package br.com.jobinder.matchingservice.domain.match;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Cold copy of a match whose partition passed the retention horizon. Plain indexes only, so it stays
+// compact; every archived match is older than every match still in the partitioned table
+@Entity
+@Table(name = "matches_archive", indexes = {
+        @Index(name = "idx_matches_archive_client_created", columnList = "clientUserId, createdAt"),
+        @Index(name = "idx_matches_archive_professional_created", columnList = "professionalUserId, createdAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ArchivedMatch {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID clientUserId;
+
+    @Column(nullable = false)
+    private UUID professionalUserId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,51 @@
+package br.com.jobinder.matchingservice.domain.match;
+
+import br.com.jobinder.matchingservice.dto.MatchSummaryDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Slow path: only reached once a listing has paged past every hot match
+public interface ArchivedMatchRepository extends JpaRepository<ArchivedMatch, UUID> {
+
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.professionalUserId, m.createdAt) " +
+            "from ArchivedMatch m where m.clientUserId = :userId order by m.createdAt desc, m.id desc")
+    List<MatchSummaryDTO> findFirstPageByClient(@Param("userId") UUID userId, Limit limit);
+
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.professionalUserId, m.createdAt) " +
+            "from ArchivedMatch m where m.clientUserId = :userId " +
+            "and m.createdAt <= :createdAt and (m.createdAt < :createdAt or m.id < :id) " +
+            "order by m.createdAt desc, m.id desc")
+    List<MatchSummaryDTO> findPageByClientAfter(@Param("userId") UUID userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                Limit limit);
+
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.clientUserId, m.createdAt) " +
+            "from ArchivedMatch m where m.professionalUserId = :userId order by m.createdAt desc, m.id desc")
+    List<MatchSummaryDTO> findFirstPageByProfessional(@Param("userId") UUID userId, Limit limit);
+
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.clientUserId, m.createdAt) " +
+            "from ArchivedMatch m where m.professionalUserId = :userId " +
+            "and m.createdAt <= :createdAt and (m.createdAt < :createdAt or m.id < :id) " +
+            "order by m.createdAt desc, m.id desc")
+    List<MatchSummaryDTO> findPageByProfessionalAfter(@Param("userId") UUID userId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") UUID id,
+                                                      Limit limit);
+
+    @Query("select case when m.clientUserId = :userId then m.professionalUserId else m.clientUserId end " +
+            "from ArchivedMatch m where m.clientUserId = :userId or m.professionalUserId = :userId")
+    List<UUID> findCounterpartUserIds(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM matches_archive WHERE id IN (SELECT id FROM matches_archive " +
+            "WHERE client_user_id = :userId OR professional_user_id = :userId LIMIT :limit)", nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") UUID userId, @Param("limit") int limit);
+}
@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.domain.match;
+
+import java.time.LocalDateTime;
+
+public interface HourlyCountView {
+    LocalDateTime getHourStart();
+
+    long getMatches();
+}
@@ -7,10 +7,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// Partitioned by month on createdAt; the table and its indexes are defined in db/matches-partitioning.sql
 @Entity
-@Table(name = "matches", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"clientUserId", "professionalUserId"})
-})
+@Table(name = "matches")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,6 +27,8 @@ public class Match {
     @Column(nullable = false)
     private UUID professionalUserId;
 
+    // Partition key
     @CreationTimestamp
+    @Column(nullable = false)
     private LocalDateTime createdAt;
 }
\ No newline at end of file
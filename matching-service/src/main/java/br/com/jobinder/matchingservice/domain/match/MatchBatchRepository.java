@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.domain.match;
+
+import java.util.List;
+
+public interface MatchBatchRepository {
+    // One JDBC batch of insert-if-absent statements; element i is true if matches[i] was created.
+    // Like insertIfAbsent, relies on the caller holding the pair locks
+    boolean[] insertAllIgnoringConflicts(List<Match> matches);
+}
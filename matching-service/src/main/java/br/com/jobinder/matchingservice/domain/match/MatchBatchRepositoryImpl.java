@@ -0,0 +1,40 @@
+package br.com.jobinder.matchingservice.domain.match;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class MatchBatchRepositoryImpl implements MatchBatchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean[] insertAllIgnoringConflicts(List<Match> matches) {
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "INSERT INTO matches (id, client_user_id, professional_user_id, created_at) SELECT ?, ?, ?, ? " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM matches WHERE client_user_id = ? AND professional_user_id = ?) " +
+                        "AND NOT EXISTS (SELECT 1 FROM matches_archive WHERE client_user_id = ? AND professional_user_id = ?)",
+                matches,
+                matches.size(),
+                (ps, match) -> {
+                    ps.setObject(1, match.getId());
+                    ps.setObject(2, match.getClientUserId());
+                    ps.setObject(3, match.getProfessionalUserId());
+                    ps.setObject(4, match.getCreatedAt());
+                    ps.setObject(5, match.getClientUserId());
+                    ps.setObject(6, match.getProfessionalUserId());
+                    ps.setObject(7, match.getClientUserId());
+                    ps.setObject(8, match.getProfessionalUserId());
+                });
+        boolean[] inserted = new boolean[matches.size()];
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted[i++] = count > 0;
+            }
+        }
+        return inserted;
+    }
+}
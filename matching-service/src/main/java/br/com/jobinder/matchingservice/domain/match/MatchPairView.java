@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.domain.match;
+
+import java.util.UUID;
+
+public interface MatchPairView {
+    UUID getClientUserId();
+
+    UUID getProfessionalUserId();
+}
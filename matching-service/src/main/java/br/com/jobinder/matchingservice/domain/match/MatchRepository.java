@@ -1,15 +1,98 @@
 package br.com.jobinder.matchingservice.domain.match;
 
+import br.com.jobinder.matchingservice.dto.MatchSummaryDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface MatchRepository extends JpaRepository<Match, UUID> {
+public interface MatchRepository extends JpaRepository<Match, UUID>, MatchBatchRepository {
     // Check if a match exists between a client and a professional
     boolean existsByClientUserIdAndProfessionalUserId(UUID clientUserId, UUID professionalUserId);
 
-    List<Match> findAllByClientUserId(UUID clientUserId);
+    // Duplicate check and insert in one round-trip; empty when the pair already has a match, hot or archived.
+    // A partitioned table cannot hold a unique pair constraint, so the caller must hold the pair lock
+    @Query(value = "INSERT INTO matches (id, client_user_id, professional_user_id, created_at) " +
+            "SELECT :id, :clientUserId, :professionalUserId, :createdAt WHERE NOT EXISTS (SELECT 1 FROM matches " +
+            "WHERE client_user_id = :clientUserId AND professional_user_id = :professionalUserId) AND NOT EXISTS (SELECT 1 " +
+            "FROM matches_archive WHERE client_user_id = :clientUserId AND professional_user_id = :professionalUserId) " +
+            "RETURNING id", nativeQuery = true)
+    Optional<UUID> insertIfAbsent(@Param("id") UUID id,
+                                  @Param("clientUserId") UUID clientUserId,
+                                  @Param("professionalUserId") UUID professionalUserId,
+                                  @Param("createdAt") LocalDateTime createdAt);
 
-    List<Match> findAllByProfessionalUserId(UUID professionalUserId);
+    // Matches created since a point in time, oldest first, for streams resuming after a disconnect
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.professionalUserId, m.createdAt) " +
+            "from Match m where m.clientUserId = :userId and m.createdAt >= :since " +
+            "order by m.createdAt asc, m.id asc")
+    List<MatchSummaryDTO> findSinceByClient(@Param("userId") UUID userId,
+                                            @Param("since") LocalDateTime since,
+                                            Limit limit);
+
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.clientUserId, m.createdAt) " +
+            "from Match m where m.professionalUserId = :userId and m.createdAt >= :since " +
+            "order by m.createdAt asc, m.id asc")
+    List<MatchSummaryDTO> findSinceByProfessional(@Param("userId") UUID userId,
+                                                  @Param("since") LocalDateTime since,
+                                                  Limit limit);
+
+    @Query("select m.clientUserId as clientUserId, m.professionalUserId as professionalUserId from Match m")
+    Stream<MatchPairView> streamAllPairs();
+
+    // Creation order, so each client's adjacency list in the co-occurrence index ends with its most recent matches
+    @Query("select m.clientUserId as clientUserId, m.professionalUserId as professionalUserId from Match m order by m.createdAt")
+    Stream<MatchPairView> streamAllPairsOldestFirst();
+
+    // Seeds the match analytics with the history from before they were recorded
+    @Query(value = "SELECT date_trunc('hour', created_at) AS \"hourStart\", count(*) AS \"matches\" FROM matches " +
+            "WHERE created_at >= :since GROUP BY 1", nativeQuery = true)
+    List<HourlyCountView> countByHourSince(@Param("since") LocalDateTime since);
+
+    // The other side of every match the user takes part in
+    @Query("select case when m.clientUserId = :userId then m.professionalUserId else m.clientUserId end " +
+            "from Match m where m.clientUserId = :userId or m.professionalUserId = :userId")
+    List<UUID> findCounterpartUserIds(@Param("userId") UUID userId);
+
+    // Listings page by (createdAt, id) descending, so every page is one index range scan whatever the offset
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.professionalUserId, m.createdAt) " +
+            "from Match m where m.clientUserId = :userId order by m.createdAt desc, m.id desc")
+    List<MatchSummaryDTO> findFirstPageByClient(@Param("userId") UUID userId, Limit limit);
+
+    // The createdAt <= bound is what the planner uses as the range end; the OR alone is not sargable
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.professionalUserId, m.createdAt) " +
+            "from Match m where m.clientUserId = :userId " +
+            "and m.createdAt <= :createdAt and (m.createdAt < :createdAt or m.id < :id) " +
+            "order by m.createdAt desc, m.id desc")
+    List<MatchSummaryDTO> findPageByClientAfter(@Param("userId") UUID userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                Limit limit);
+
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.clientUserId, m.createdAt) " +
+            "from Match m where m.professionalUserId = :userId order by m.createdAt desc, m.id desc")
+    List<MatchSummaryDTO> findFirstPageByProfessional(@Param("userId") UUID userId, Limit limit);
+
+    // Same createdAt <= range bound as findPageByClientAfter
+    @Query("select new br.com.jobinder.matchingservice.dto.MatchSummaryDTO(m.id, m.clientUserId, m.createdAt) " +
+            "from Match m where m.professionalUserId = :userId " +
+            "and m.createdAt <= :createdAt and (m.createdAt < :createdAt or m.id < :id) " +
+            "order by m.createdAt desc, m.id desc")
+    List<MatchSummaryDTO> findPageByProfessionalAfter(@Param("userId") UUID userId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") UUID id,
+                                                      Limit limit);
+
+    // Deletes at most :limit of the user's matches so each batch holds its locks briefly
+    @Modifying
+    @Query(value = "DELETE FROM matches WHERE id IN (SELECT id FROM matches " +
+            "WHERE client_user_id = :userId OR professional_user_id = :userId LIMIT :limit)", nativeQuery = true)
+    int deleteBatchByUserId(@Param("userId") UUID userId, @Param("limit") int limit);
 }
\ No newline at end of file
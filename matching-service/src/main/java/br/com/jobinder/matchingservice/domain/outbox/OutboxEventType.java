@@ -0,0 +1,5 @@
+package br.com.jobinder.matchingservice.domain.outbox;
+
+public enum OutboxEventType {
+    MATCH_CREATED
+}
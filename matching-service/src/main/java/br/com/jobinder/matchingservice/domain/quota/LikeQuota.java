@@ -0,0 +1,27 @@
+package br.com.jobinder.matchingservice.domain.quota;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Snapshot of a user's likes on their latest active day, summed across replicas
+@Entity(name = "LikeQuota")
+@Table(name = "like_quotas")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "userId")
+public class LikeQuota {
+
+    @Id
+    private UUID userId;
+
+    @Column(nullable = false)
+    private LocalDate quotaDay;
+
+    @Column(nullable = false)
+    private int used;
+}
@@ -0,0 +1,11 @@
+package br.com.jobinder.matchingservice.domain.quota;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+public interface LikeQuotaBatchRepository {
+    // Adds each user's delta to their count for the day in one statement, resetting rows left from an earlier day.
+    // Returns the stored totals, which include what other replicas added
+    Map<UUID, Integer> addUsage(LocalDate day, Map<UUID, Integer> deltas);
+}
@@ -0,0 +1,45 @@
+package br.com.jobinder.matchingservice.domain.quota;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class LikeQuotaBatchRepositoryImpl implements LikeQuotaBatchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<UUID, Integer> addUsage(LocalDate day, Map<UUID, Integer> deltas) {
+        Map<UUID, Integer> totals = new HashMap<>();
+        if (deltas.isEmpty()) {
+            return totals;
+        }
+        UUID[] userIds = deltas.keySet().toArray(UUID[]::new);
+        Integer[] amounts = new Integer[userIds.length];
+        for (int i = 0; i < userIds.length; i++) {
+            amounts[i] = deltas.get(userIds[i]);
+        }
+        jdbcTemplate.query("""
+                        INSERT INTO like_quotas (user_id, quota_day, used)
+                        SELECT u, ?, d FROM unnest(?, ?) AS t(u, d)
+                        ON CONFLICT (user_id) DO UPDATE SET
+                            used = CASE WHEN like_quotas.quota_day = excluded.quota_day
+                                        THEN like_quotas.used + excluded.used ELSE excluded.used END,
+                            quota_day = excluded.quota_day
+                        RETURNING user_id, used""",
+                ps -> {
+                    ps.setObject(1, day);
+                    ps.setArray(2, ps.getConnection().createArrayOf("uuid", userIds));
+                    ps.setArray(3, ps.getConnection().createArrayOf("integer", amounts));
+                },
+                rs -> {
+                    totals.put(rs.getObject("user_id", UUID.class), rs.getInt("used"));
+                });
+        return totals;
+    }
+}
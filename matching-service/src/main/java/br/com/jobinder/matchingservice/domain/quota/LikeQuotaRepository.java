@@ -0,0 +1,19 @@
+package br.com.jobinder.matchingservice.domain.quota;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface LikeQuotaRepository extends JpaRepository<LikeQuota, UUID>, LikeQuotaBatchRepository {
+
+    List<LikeQuota> findAllByQuotaDay(LocalDate quotaDay);
+
+    @Modifying
+    @Query("delete from LikeQuota q where q.quotaDay < :day")
+    int deleteByQuotaDayBefore(@Param("day") LocalDate day);
+}
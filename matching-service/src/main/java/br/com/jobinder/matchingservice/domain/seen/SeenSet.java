@@ -0,0 +1,26 @@
+package br.com.jobinder.matchingservice.domain.seen;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Serialized roaring bitmap of the ordinals a client has already swiped on (liked or passed)
+@Entity(name = "SeenSet")
+@Table(name = "seen_sets")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "clientUserId")
+public class SeenSet {
+
+    @Id
+    private UUID clientUserId;
+
+    @Column(nullable = false)
+    private byte[] bitmap;
+
+    private LocalDateTime updatedAt;
+}
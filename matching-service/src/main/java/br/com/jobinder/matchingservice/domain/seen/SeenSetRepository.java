@@ -0,0 +1,28 @@
+package br.com.jobinder.matchingservice.domain.seen;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SeenSetRepository extends JpaRepository<SeenSet, UUID> {
+
+    // Makes sure a row exists so the flush can always lock it
+    @Modifying
+    @Query(value = "INSERT INTO seen_sets (client_user_id, bitmap, updated_at) VALUES (:clientUserId, '', now()) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("clientUserId") UUID clientUserId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from SeenSet s where s.clientUserId = :clientUserId")
+    Optional<SeenSet> findForUpdate(@Param("clientUserId") UUID clientUserId);
+
+    @Modifying
+    @Query("delete from SeenSet s where s.clientUserId = :clientUserId")
+    int deleteByClientUserId(@Param("clientUserId") UUID clientUserId);
+}
@@ -0,0 +1,24 @@
+package br.com.jobinder.matchingservice.domain.seen;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+// Dense integer alias for a user ID, so per-client sets can be stored as compressed bitmaps
+@Entity(name = "UserOrdinal")
+@Table(name = "user_ordinals")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "ordinal")
+public class UserOrdinal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer ordinal;
+
+    @Column(nullable = false, unique = true)
+    private UUID userId;
+}
@@ -0,0 +1,33 @@
+package br.com.jobinder.matchingservice.domain.seen;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserOrdinalRepository extends JpaRepository<UserOrdinal, Integer> {
+
+    // Returns the user's ordinal, assigning the next one on first use, in a single round-trip.
+    // Only inserts when absent so existing users do not burn identity values and leave gaps in the bitmaps.
+    // Empty when a concurrent transaction assigned it first; a plain lookup then finds it
+    @Query(value = "WITH existing AS (SELECT ordinal FROM user_ordinals WHERE user_id = :userId), " +
+            "inserted AS (INSERT INTO user_ordinals (user_id) SELECT :userId WHERE NOT EXISTS (SELECT 1 FROM existing) " +
+            "ON CONFLICT (user_id) DO NOTHING RETURNING ordinal) " +
+            "SELECT ordinal FROM existing UNION ALL SELECT ordinal FROM inserted",
+            nativeQuery = true)
+    Optional<Integer> resolveOrdinal(@Param("userId") UUID userId);
+
+    @Query("select o.ordinal from UserOrdinal o where o.userId = :userId")
+    Optional<Integer> findOrdinalByUserId(@Param("userId") UUID userId);
+
+    List<UserOrdinal> findAllByUserIdIn(Collection<UUID> userIds);
+
+    @Modifying
+    @Query("delete from UserOrdinal o where o.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
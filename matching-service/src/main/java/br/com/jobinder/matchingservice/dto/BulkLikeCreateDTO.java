@@ -0,0 +1,14 @@
+package br.com.jobinder.matchingservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkLikeCreateDTO(
+        @NotEmpty(message = "At least one liked user ID is required")
+        @Size(max = 500, message = "At most 500 likes per request")
+        List<@NotNull UUID> likedUserIds
+) {}
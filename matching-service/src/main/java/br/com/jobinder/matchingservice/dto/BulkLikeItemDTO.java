@@ -0,0 +1,10 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.UUID;
+
+// matchId is only set when the status is MATCHED
+public record BulkLikeItemDTO(
+        UUID likedUserId,
+        BulkLikeStatus status,
+        UUID matchId
+) {}
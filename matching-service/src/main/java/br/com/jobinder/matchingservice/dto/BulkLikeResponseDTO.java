@@ -0,0 +1,8 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.List;
+
+// One item per distinct liked user, in request order
+public record BulkLikeResponseDTO(
+        List<BulkLikeItemDTO> results
+) {}
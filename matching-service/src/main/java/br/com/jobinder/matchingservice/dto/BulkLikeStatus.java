@@ -0,0 +1,10 @@
+package br.com.jobinder.matchingservice.dto;
+
+public enum BulkLikeStatus {
+    LIKED,
+    MATCHED,
+    // Replayed swipe: the like was recorded by an earlier request
+    ALREADY_LIKED,
+    // Liking yourself, an unknown user or a user on the same side
+    INVALID
+}
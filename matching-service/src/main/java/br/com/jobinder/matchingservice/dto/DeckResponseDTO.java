@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.List;
+
+// refilling tells the client more candidates are being prepared when the list came back short
+public record DeckResponseDTO(
+        List<ProfileCardDTO> candidates,
+        boolean refilling
+) {}
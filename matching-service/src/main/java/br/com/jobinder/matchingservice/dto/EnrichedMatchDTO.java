@@ -0,0 +1,14 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// A match with what the app needs to draw the other user; counterpart fields are null when identity-service had no answer
+public record EnrichedMatchDTO(
+        UUID matchId,
+        UUID counterpartUserId,
+        LocalDateTime createdAt,
+        String displayName,
+        String specialtyName,
+        String thumbnailUrl
+) {}
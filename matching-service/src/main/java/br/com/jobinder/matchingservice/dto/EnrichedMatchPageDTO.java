@@ -0,0 +1,10 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.List;
+
+// partial is true when some profiles could not be fetched in time; nextCursor is null on the last page
+public record EnrichedMatchPageDTO(
+        List<EnrichedMatchDTO> matches,
+        String nextCursor,
+        boolean partial
+) {}
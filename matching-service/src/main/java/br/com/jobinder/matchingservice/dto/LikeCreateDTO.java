@@ -0,0 +1,10 @@
+package br.com.jobinder.matchingservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record LikeCreateDTO(
+        @NotNull(message = "Liked user ID is required")
+        UUID likedUserId
+) {}
@@ -0,0 +1,13 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Broadcast to every replica's in-memory inbox: pending is true for a new like waiting on the owner,
+// false once the owner liked back and the like turned into a match
+public record LikeInboxEvent(
+        UUID ownerUserId,
+        UUID likerUserId,
+        LocalDateTime likedAt,
+        boolean pending
+) {}
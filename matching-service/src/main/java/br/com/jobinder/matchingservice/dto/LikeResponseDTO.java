@@ -0,0 +1,10 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.UUID;
+
+// matchId is only set when this like completed a mutual match
+public record LikeResponseDTO(
+        boolean matched,
+        UUID matchId,
+        String message
+) {}
@@ -0,0 +1,10 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.time.LocalDateTime;
+
+// Matches created in one bucket; value is the specialty or city, null when not broken down
+public record MatchAnalyticsBucketDTO(
+        LocalDateTime bucketStart,
+        String value,
+        long matches
+) {}
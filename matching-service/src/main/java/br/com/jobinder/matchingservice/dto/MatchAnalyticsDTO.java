@@ -0,0 +1,16 @@
+package br.com.jobinder.matchingservice.dto;
+
+import br.com.jobinder.matchingservice.infra.analytics.MatchDimension;
+import br.com.jobinder.matchingservice.infra.analytics.MatchGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Buckets without matches are left out
+public record MatchAnalyticsDTO(
+        MatchGranularity granularity,
+        MatchDimension dimension,
+        LocalDateTime from,
+        LocalDateTime to,
+        List<MatchAnalyticsBucketDTO> buckets
+) {}
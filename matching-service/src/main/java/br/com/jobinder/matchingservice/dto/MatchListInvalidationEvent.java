@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+// Broadcast to every matching-service replica when these users' match lists change
+public record MatchListInvalidationEvent(
+        List<UUID> userIds
+) {}
@@ -0,0 +1,12 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Broadcast to every matching-service replica once a match commits, to push it to open streams
+public record MatchNotificationEvent(
+        UUID matchId,
+        UUID clientUserId,
+        UUID professionalUserId,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.List;
+
+// nextCursor is null on the last page
+public record MatchPageDTO(
+        List<MatchSummaryDTO> matches,
+        String nextCursor
+) {}
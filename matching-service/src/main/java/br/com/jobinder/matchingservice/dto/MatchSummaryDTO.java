@@ -0,0 +1,11 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One row of a match listing, read straight from the index without loading the entity
+public record MatchSummaryDTO(
+        UUID matchId,
+        UUID counterpartUserId,
+        LocalDateTime createdAt
+) {}
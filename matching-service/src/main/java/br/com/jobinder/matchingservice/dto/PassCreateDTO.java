@@ -0,0 +1,10 @@
+package br.com.jobinder.matchingservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record PassCreateDTO(
+        @NotNull(message = "Passed user ID is required")
+        UUID passedUserId
+) {}
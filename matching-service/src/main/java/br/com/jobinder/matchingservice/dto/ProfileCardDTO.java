@@ -0,0 +1,19 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Card of a professional as served by identity-service
+public record ProfileCardDTO(
+        UUID serviceProfileId,
+        UUID userId,
+        String displayName,
+        String specialtyName,
+        String locationCity,
+        String locationState,
+        String serviceImageUrl,
+        String serviceThumbnailUrl,
+        Integer servicesPerformed,
+        Float rating,
+        LocalDateTime updatedAt
+) {}
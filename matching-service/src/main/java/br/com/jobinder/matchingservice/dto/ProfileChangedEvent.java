@@ -0,0 +1,8 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.UUID;
+
+// Only the part of identity-service's profile change event that matching-service reads
+public record ProfileChangedEvent(
+        UUID userId
+) {}
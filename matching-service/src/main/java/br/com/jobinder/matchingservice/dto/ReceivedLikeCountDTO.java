@@ -0,0 +1,5 @@
+package br.com.jobinder.matchingservice.dto;
+
+public record ReceivedLikeCountDTO(
+        int pending
+) {}
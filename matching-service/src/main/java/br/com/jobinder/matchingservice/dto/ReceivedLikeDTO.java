@@ -0,0 +1,10 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Someone who liked the user and has not been liked back yet
+public record ReceivedLikeDTO(
+        UUID likerUserId,
+        LocalDateTime likedAt
+) {}
@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.List;
+
+// The pending count covers every pending like; likers only the most recent ones
+public record ReceivedLikesDTO(
+        int pending,
+        List<ReceivedLikeDTO> likers
+) {}
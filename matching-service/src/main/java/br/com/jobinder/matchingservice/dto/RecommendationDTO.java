@@ -0,0 +1,9 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.UUID;
+
+// A professional the client has not matched yet; higher scores come first
+public record RecommendationDTO(
+        UUID professionalUserId,
+        double score
+) {}
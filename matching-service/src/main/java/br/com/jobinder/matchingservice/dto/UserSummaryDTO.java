@@ -0,0 +1,14 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.UUID;
+
+// User summary as served by identity-service; profile fields are null for clients
+public record UserSummaryDTO(
+        UUID userId,
+        String displayName,
+        String specialtyName,
+        String serviceThumbnailUrl,
+        String locationCity,
+        String locationState,
+        boolean professional
+) {}
@@ -0,0 +1,8 @@
+package br.com.jobinder.matchingservice.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UserSummaryRequestDTO(
+        List<UUID> userIds
+) {}
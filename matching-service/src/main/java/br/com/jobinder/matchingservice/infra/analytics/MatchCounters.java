@@ -0,0 +1,88 @@
+package br.com.jobinder.matchingservice.infra.analytics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hourly match counters per dimension value, ordered by hour so a dashboard range is a sub-map walk.
+// Coarser granularities are summed from the hours at read time
+public final class MatchCounters {
+
+    public record Key(LocalDateTime hourStart, MatchDimension dimension, String value) {
+    }
+
+    private record Series(MatchDimension dimension, String value) {
+    }
+
+    private final ConcurrentNavigableMap<LocalDateTime, Map<Series, AtomicLong>> hours = new ConcurrentSkipListMap<>();
+
+    // Counters changed since the last checkpoint
+    private final Set<Key> dirty = ConcurrentHashMap.newKeySet();
+
+    public void increment(LocalDateTime time, MatchDimension dimension, String value) {
+        var hour = MatchGranularity.HOUR.truncate(time);
+        counter(hour, dimension, value).incrementAndGet();
+        dirty.add(new Key(hour, dimension, value));
+    }
+
+    // Takes in a count from a checkpoint or another source without marking it for the next checkpoint
+    public void mergeMax(LocalDateTime hourStart, MatchDimension dimension, String value, long count) {
+        counter(hourStart, dimension, value).accumulateAndGet(count, Math::max);
+    }
+
+    public long get(Key key) {
+        var series = hours.get(key.hourStart());
+        var counter = series == null ? null : series.get(new Series(key.dimension(), key.value()));
+        return counter == null ? 0 : counter.get();
+    }
+
+    // Removed before their values are read, so an increment racing with the checkpoint marks the key again
+    public List<Key> drainDirty() {
+        List<Key> drained = new ArrayList<>();
+        for (var key : dirty) {
+            if (dirty.remove(key)) {
+                drained.add(key);
+            }
+        }
+        return drained;
+    }
+
+    public void markDirty(List<Key> keys) {
+        dirty.addAll(keys);
+    }
+
+    // Bucket start -> dimension value -> matches, for buckets overlapping [from, to)
+    public NavigableMap<LocalDateTime, Map<String, Long>> aggregate(LocalDateTime from, LocalDateTime to,
+                                                                    MatchGranularity granularity, MatchDimension dimension) {
+        NavigableMap<LocalDateTime, Map<String, Long>> buckets = new TreeMap<>();
+        if (!from.isBefore(to)) {
+            return buckets;
+        }
+        hours.subMap(MatchGranularity.HOUR.truncate(from), true, to, false).forEach((hour, series) ->
+                series.forEach((key, counter) -> {
+                    if (key.dimension() == dimension) {
+                        buckets.computeIfAbsent(granularity.truncate(hour), bucket -> new TreeMap<>())
+                                .merge(key.value(), counter.get(), Long::sum);
+                    }
+                }));
+        return buckets;
+    }
+
+    public void pruneBefore(LocalDateTime hourStart) {
+        hours.headMap(hourStart).clear();
+        dirty.removeIf(key -> key.hourStart().isBefore(hourStart));
+    }
+
+    private AtomicLong counter(LocalDateTime hourStart, MatchDimension dimension, String value) {
+        return hours.computeIfAbsent(hourStart, hour -> new ConcurrentHashMap<>())
+                .computeIfAbsent(new Series(dimension, value), series -> new AtomicLong());
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.jobinder.matchingservice.infra.analytics;
+
+// What a match count is broken down by; ALL has no value, the others use the professional's profile
+public enum MatchDimension {
+    ALL,
+    SPECIALTY,
+    CITY
+}
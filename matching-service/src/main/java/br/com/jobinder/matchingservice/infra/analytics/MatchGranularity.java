@@ -0,0 +1,13 @@
+package br.com.jobinder.matchingservice.infra.analytics;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum MatchGranularity {
+    HOUR,
+    DAY;
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(this == HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.jobinder.matchingservice.infra.bloom;
+
+import br.com.jobinder.matchingservice.domain.match.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-node filter of the (client, professional) pairs that already have a match
+@Component
+public class MatchPairFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchPairFilter.class);
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${match-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${match-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Until the first load finishes every pair is reported as possibly present, which only costs a lookup
+    private volatile PairBloomFilter filter;
+
+    private final AtomicLong pairCount = new AtomicLong();
+
+    public boolean mightContain(UUID clientUserId, UUID professionalUserId) {
+        var current = filter;
+        return current == null || current.mightContain(clientUserId, professionalUserId);
+    }
+
+    public void put(UUID clientUserId, UUID professionalUserId) {
+        var current = filter;
+        if (current != null) {
+            current.put(clientUserId, professionalUserId);
+            pairCount.incrementAndGet();
+        }
+    }
+
+    // A Bloom filter cannot forget deleted pairs and degrades past its sizing, so it is rebuilt periodically
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${match-filter.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        try {
+            // Size for the current table plus headroom for the pairs added until the next rebuild
+            long expected = Math.max(expectedInsertions, pairCount.get() * 2);
+            var rebuilt = new PairBloomFilter(expected, falsePositiveRate);
+            Long loaded = transactionTemplate.execute(status -> {
+                try (var pairs = matchRepository.streamAllPairs()) {
+                    return pairs.peek(pair -> rebuilt.put(pair.getClientUserId(), pair.getProfessionalUserId())).count();
+                }
+            });
+            pairCount.set(loaded == null ? 0 : loaded);
+            filter = rebuilt;
+            log.info("Match pair filter built with {} pairs", loaded);
+        } catch (Exception e) {
+            log.warn("Could not build the match pair filter: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.jobinder.matchingservice.infra.bloom;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over ordered pairs of UUIDs.
+ * {@code mightContain} never returns false for a pair that was added, but may return true for one that was not.
+ */
+public class PairBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public PairBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        // Standard sizing: m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    public void put(UUID first, UUID second) {
+        long h1 = hash(first, second, 0x9E3779B97F4A7C15L);
+        long h2 = hash(first, second, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(UUID first, UUID second) {
+        long h1 = hash(first, second, 0x9E3779B97F4A7C15L);
+        long h2 = hash(first, second, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Two independent 64-bit hashes combined as h1 + i * h2 (Kirsch-Mitzenmacher)
+    private static long hash(UUID first, UUID second, long seed) {
+        long h = seed;
+        h = mix(h ^ first.getMostSignificantBits());
+        h = mix(h ^ first.getLeastSignificantBits());
+        h = mix(h ^ second.getMostSignificantBits());
+        h = mix(h ^ second.getLeastSignificantBits());
+        return h;
+    }
+
+    // MurmurHash3 fmix64 finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
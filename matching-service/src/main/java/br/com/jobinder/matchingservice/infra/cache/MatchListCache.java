@@ -0,0 +1,118 @@
+package br.com.jobinder.matchingservice.infra.cache;
+
+import br.com.jobinder.matchingservice.dto.MatchListInvalidationEvent;
+import br.com.jobinder.matchingservice.dto.MatchSummaryDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Newest matches of each user, per side, so opening the matches screen does not hit the database.
+ * Bounded by an estimate of retained bytes and expired after a TTL, which also caps staleness
+ * when an invalidation from another replica is lost.
+ */
+@Component
+public class MatchListCache {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchListCache.class);
+
+    // Rough retained size of one row (record, two UUIDs, LocalDateTime) and of the entry itself
+    private static final int ROW_BYTES = 160;
+    private static final int ENTRY_BYTES = 120;
+
+    public enum Side { CLIENT, PROFESSIONAL }
+
+    private record Key(UUID userId, Side side) {}
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Value("${rabbitmq.exchanges.match-list-invalidation}")
+    private String invalidationExchange;
+
+    @Value("${matches.cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${matches.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<Key, List<MatchSummaryDTO>> cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, List<MatchSummaryDTO> rows) -> ENTRY_BYTES + rows.size() * ROW_BYTES)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "match-lists");
+        Gauge.builder("cache.estimated.bytes", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .tag("cache", "match-lists")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // Loading and invalidating the same key are serialized by the cache, so an eviction never loses to an in-flight load
+    public List<MatchSummaryDTO> get(UUID userId, Side side, Function<UUID, List<MatchSummaryDTO>> loader) {
+        return cache.get(new Key(userId, side), key -> List.copyOf(loader.apply(key.userId())));
+    }
+
+    // Evicts here and on every other replica once the current transaction commits, or right away without one
+    public void invalidate(Collection<UUID> userIds) {
+        var ids = List.copyOf(userIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateEverywhere(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateEverywhere(ids);
+            }
+        });
+    }
+
+    // Called for invalidations broadcast by any replica, this one included
+    public void invalidateLocally(Collection<UUID> userIds) {
+        for (UUID userId : userIds) {
+            for (Side side : Side.values()) {
+                cache.invalidate(new Key(userId, side));
+            }
+        }
+    }
+
+    private void invalidateEverywhere(List<UUID> userIds) {
+        invalidateLocally(userIds);
+        try {
+            rabbitTemplate.convertAndSend(invalidationExchange, "", new MatchListInvalidationEvent(userIds));
+        } catch (AmqpException e) {
+            // Other replicas catch up when their entries expire
+            log.warn("Could not broadcast match list invalidation for {} users: {}", userIds.size(), e.getMessage());
+        }
+    }
+}
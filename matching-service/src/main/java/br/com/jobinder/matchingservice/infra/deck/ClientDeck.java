@@ -0,0 +1,70 @@
+package br.com.jobinder.matchingservice.infra.deck;
+
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Queue of ready-to-show candidates for one client
+public class ClientDeck {
+
+    private final ArrayDeque<ProfileCardDTO> queue = new ArrayDeque<>();
+    private final Set<UUID> queuedUserIds = new HashSet<>();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    // Next identity-service page to read, so consecutive refills walk the catalog instead of rereading page 0
+    private int nextPage;
+
+    public synchronized List<ProfileCardDTO> poll(int count) {
+        List<ProfileCardDTO> result = new ArrayList<>(Math.min(count, queue.size()));
+        while (result.size() < count && !queue.isEmpty()) {
+            var card = queue.poll();
+            queuedUserIds.remove(card.userId());
+            result.add(card);
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    public synchronized boolean isQueued(UUID userId) {
+        return queuedUserIds.contains(userId);
+    }
+
+    public synchronized void addAll(Collection<ProfileCardDTO> cards) {
+        for (var card : cards) {
+            if (queuedUserIds.add(card.userId())) {
+                queue.add(card);
+            }
+        }
+    }
+
+    public synchronized int nextPage() {
+        return nextPage;
+    }
+
+    public synchronized void setNextPage(int nextPage) {
+        this.nextPage = nextPage;
+    }
+
+    // Single-flight guard: only one refill per client at a time
+    public boolean tryStartRefill() {
+        return refilling.compareAndSet(false, true);
+    }
+
+    public void finishRefill() {
+        refilling.set(false);
+    }
+
+    public boolean isRefilling() {
+        return refilling.get();
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.jobinder.matchingservice.infra.exception;
 
 import feign.FeignException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -27,6 +28,40 @@ public class GlobalExceptionHandler {
                 .body(Map.of("message", ex.getMessage()));
     }
 
+    // Handle invalid like requests (e.g., liking yourself)
+    @ExceptionHandler(InvalidLikeException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidLike(InvalidLikeException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("message", ex.getMessage()));
+    }
+
+    // Handle malformed or tampered pagination cursors
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursor(InvalidCursorException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("message", ex.getMessage()));
+    }
+
+    // Handle SSE connection limits; clients retry with backoff
+    @ExceptionHandler(StreamLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleStreamLimitExceeded(StreamLimitExceededException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of("message", ex.getMessage()));
+    }
+
+    // Handle daily like limits; Retry-After points at the next reset
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<Map<String, String>> handleQuotaExceeded(QuotaExceededException ex) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(Map.of("message", ex.getMessage()));
+    }
+
     // Handle 404 from Feign client (e.g., user or profile not found in identity-service)
     @ExceptionHandler(FeignException.NotFound.class)
     public ResponseEntity<Map<String, String>> handleFeignNotFound(FeignException.NotFound ex) {
@@ -0,0 +1,7 @@
+package br.com.jobinder.matchingservice.infra.exception;
+
+public class InvalidLikeException extends RuntimeException {
+    public InvalidLikeException(String message) {
+        super(message);
+    }
+}
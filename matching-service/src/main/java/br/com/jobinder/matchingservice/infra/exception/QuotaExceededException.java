@@ -0,0 +1,15 @@
+package br.com.jobinder.matchingservice.infra.exception;
+
+import lombok.Getter;
+
+@Getter
+public class QuotaExceededException extends RuntimeException {
+
+    // Seconds until the quota resets
+    private final long retryAfterSeconds;
+
+    public QuotaExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
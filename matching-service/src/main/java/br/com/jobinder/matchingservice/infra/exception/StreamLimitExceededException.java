@@ -0,0 +1,7 @@
+package br.com.jobinder.matchingservice.infra.exception;
+
+public class StreamLimitExceededException extends RuntimeException {
+    public StreamLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.jobinder.matchingservice.infra.inbox;
+
+import br.com.jobinder.matchingservice.dto.ReceivedLikeDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+// One user's pending incoming likes: the exact count plus the most recent likers in a fixed-size ring.
+// Methods are synchronized on the ring itself, so different users never contend
+public final class LikerRing {
+
+    private final UUID[] likers;
+    private final LocalDateTime[] likedAt;
+    // Slot the next liker goes into; the newest one sits just before it
+    private int head;
+    private int size;
+    private int pending;
+    // System.nanoTime() of the last live update, so a rebuild does not overwrite updates newer than its query
+    private long touchedAt;
+    private boolean touched;
+
+    public LikerRing(int capacity) {
+        likers = new UUID[capacity];
+        likedAt = new LocalDateTime[capacity];
+    }
+
+    public synchronized int pending() {
+        return pending;
+    }
+
+    // A repeated liker is ignored: the newest likes are always in the ring, so replays are caught here
+    public synchronized void add(UUID likerUserId, LocalDateTime createdAt) {
+        touch();
+        if (indexOf(likerUserId) >= 0) {
+            return;
+        }
+        likers[head] = likerUserId;
+        likedAt[head] = createdAt;
+        head = (head + 1) % likers.length;
+        size = Math.min(size + 1, likers.length);
+        pending++;
+    }
+
+    // Likers older than the ring only lower the count
+    public synchronized void remove(UUID likerUserId) {
+        touch();
+        int index = indexOf(likerUserId);
+        if (index < 0) {
+            pending = Math.max(size, pending - 1);
+            return;
+        }
+        removeAt(index);
+    }
+
+    public synchronized void removeIfPresent(UUID likerUserId) {
+        int index = indexOf(likerUserId);
+        if (index >= 0) {
+            removeAt(index);
+        }
+    }
+
+    public synchronized boolean touchedSince(long nanoTime) {
+        return touched && touchedAt - nanoTime > 0;
+    }
+
+    private void touch() {
+        touchedAt = System.nanoTime();
+        touched = true;
+    }
+
+    private void removeAt(int index) {
+        // Shift the newer entries back over the removed one, keeping the ring in order
+        int newest = Math.floorMod(head - 1, likers.length);
+        for (int i = index; i != newest; i = (i + 1) % likers.length) {
+            int next = (i + 1) % likers.length;
+            likers[i] = likers[next];
+            likedAt[i] = likedAt[next];
+        }
+        likers[newest] = null;
+        likedAt[newest] = null;
+        head = newest;
+        size--;
+        pending--;
+    }
+
+    // After removals the ring can hold fewer likers than it could show; the owner then reloads it
+    public synchronized boolean isShort() {
+        return size < Math.min(pending, likers.length);
+    }
+
+    public synchronized void reset(int pendingCount, List<ReceivedLikeDTO> newestFirst) {
+        Arrays.fill(likers, null);
+        Arrays.fill(likedAt, null);
+        head = 0;
+        size = 0;
+        for (int i = Math.min(newestFirst.size(), likers.length) - 1; i >= 0; i--) {
+            likers[head] = newestFirst.get(i).likerUserId();
+            likedAt[head] = newestFirst.get(i).likedAt();
+            head = (head + 1) % likers.length;
+            size++;
+        }
+        pending = Math.max(pendingCount, size);
+    }
+
+    public synchronized List<ReceivedLikeDTO> newest(int limit) {
+        int count = Math.min(limit, size);
+        List<ReceivedLikeDTO> result = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            int slot = Math.floorMod(head - i, likers.length);
+            result.add(new ReceivedLikeDTO(likers[slot], likedAt[slot]));
+        }
+        return result;
+    }
+
+    private int indexOf(UUID likerUserId) {
+        for (int i = 0; i < likers.length; i++) {
+            if (likerUserId.equals(likers[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.jobinder.matchingservice.infra.notification;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open SSE connection. Events go through a bounded queue drained on a shared executor, so a slow
+ * client never blocks the thread that broadcasts a match. When the queue overflows the pending events
+ * are dropped and the client is told to resync instead.
+ */
+public class MatchStream {
+
+    private final UUID userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEventBuilder> queue;
+    private final TaskExecutor executor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean failed;
+
+    public MatchStream(UUID userId, SseEmitter emitter, int bufferSize, TaskExecutor executor) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.executor = executor;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    public void enqueue(SseEventBuilder event) {
+        if (isDead()) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            overflowed.set(true);
+            queue.clear();
+        }
+        scheduleDrain();
+    }
+
+    // True only for the first call, so the owner releases the connection exactly once
+    public boolean close() {
+        queue.clear();
+        return closed.compareAndSet(false, true);
+    }
+
+    private boolean isDead() {
+        return closed.get() || failed;
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            // The next event or heartbeat tries again
+            draining.set(false);
+        }
+    }
+
+    private void drain() {
+        try {
+            do {
+                if (overflowed.getAndSet(false)) {
+                    send(SseEmitter.event().name("resync").data("Missed events, reload the match list."));
+                }
+                SseEventBuilder event;
+                while (!isDead() && (event = queue.poll()) != null) {
+                    send(event);
+                }
+                draining.set(false);
+                // Something may have been queued after the last poll but before the flag was cleared
+            } while (!isDead() && (!queue.isEmpty() || overflowed.get()) && draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; completing the emitter runs the owner's cleanup callbacks
+            failed = true;
+            queue.clear();
+            draining.set(false);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void send(SseEventBuilder event) throws IOException {
+        emitter.send(event);
+    }
+}
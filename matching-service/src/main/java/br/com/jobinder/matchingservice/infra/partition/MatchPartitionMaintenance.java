@@ -0,0 +1,132 @@
+package br.com.jobinder.matchingservice.infra.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the monthly partitions of {@code matches} (see db/matches-partitioning.sql) ahead of the clock and
+ * moves partitions past the retention horizon into {@code matches_archive}, so hot indexes only cover recent months.
+ * Each step is its own transaction behind an advisory lock, so only one replica does the work.
+ */
+@Component
+public class MatchPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchPartitionMaintenance.class);
+
+    private static final String PARTITION_PREFIX = "matches_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('matches-partition-maintenance'))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${matches.partitions.months-ahead:2}")
+    private int monthsAhead;
+
+    @Value("${matches.archive.retention-months:12}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${matches.partitions.cron:0 0 4 * * *}")
+    public void maintain() {
+        var currentMonth = YearMonth.now();
+        var horizon = currentMonth.minusMonths(retentionMonths);
+        try {
+            // Rows parked in the default partition (e.g. after the migration) get a partition of their own
+            var oldest = jdbcTemplate.queryForObject("SELECT min(created_at) FROM matches_default", LocalDateTime.class);
+            var first = oldest == null ? currentMonth : max(YearMonth.from(oldest), horizon);
+            for (var month = first; !month.isAfter(currentMonth.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+                createPartition(month);
+            }
+            archiveBefore(horizon);
+        } catch (Exception e) {
+            log.error("Match partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        var name = partitionName(month);
+        var from = month.atDay(1).atStartOfDay();
+        var to = month.plusMonths(1).atDay(1).atStartOfDay();
+        Integer moved = locked(() -> {
+            if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name)) {
+                return 0;
+            }
+            // Filled from the default partition before attaching, which would otherwise reject the new range
+            jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE matches INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            int rows = jdbcTemplate.update("WITH moved AS (DELETE FROM matches_default WHERE created_at >= ? AND created_at < ? RETURNING *) " +
+                    "INSERT INTO " + name + " SELECT * FROM moved", from, to);
+            jdbcTemplate.execute("ALTER TABLE matches ATTACH PARTITION " + name +
+                    " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            log.info("Created match partition {} ({} rows moved from the default partition)", name, rows);
+            return rows;
+        });
+        if (moved == null) {
+            log.debug("Another instance is maintaining match partitions, skipping {}", name);
+        }
+    }
+
+    private void archiveBefore(YearMonth horizon) {
+        var partitions = jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'matches'::regclass AND c.relname LIKE 'matches\\_p%' ORDER BY c.relname", String.class);
+        for (var name : partitions) {
+            var month = monthOf(name);
+            if (month == null || !month.isBefore(horizon)) {
+                continue;
+            }
+            locked(() -> {
+                // Detach, copy and drop commit together, so the rows are never in both places or neither
+                jdbcTemplate.execute("ALTER TABLE matches DETACH PARTITION " + name);
+                int rows = jdbcTemplate.update("INSERT INTO matches_archive (id, client_user_id, professional_user_id, created_at, archived_at) " +
+                        "SELECT id, client_user_id, professional_user_id, created_at, now() FROM " + name + " ON CONFLICT (id) DO NOTHING");
+                jdbcTemplate.execute("DROP TABLE " + name);
+                log.info("Archived match partition {} ({} rows)", name, rows);
+                return rows;
+            });
+        }
+
+        locked(() -> jdbcTemplate.update("WITH moved AS (DELETE FROM matches_default WHERE created_at < ? RETURNING *) " +
+                "INSERT INTO matches_archive (id, client_user_id, professional_user_id, created_at, archived_at) " +
+                "SELECT id, client_user_id, professional_user_id, created_at, now() FROM moved ON CONFLICT (id) DO NOTHING",
+                horizon.atDay(1).atStartOfDay()));
+    }
+
+    // Null when another instance holds the maintenance lock
+    private <T> T locked(Supplier<T> work) {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class) ? work.get() : null);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static YearMonth monthOf(String partitionName) {
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static YearMonth max(YearMonth a, YearMonth b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
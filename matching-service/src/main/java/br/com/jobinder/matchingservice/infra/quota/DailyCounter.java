@@ -0,0 +1,96 @@
+package br.com.jobinder.matchingservice.infra.quota;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free per-user counter for one day. The epoch day and the count share a single long, so checking
+// the limit, rolling over at midnight and incrementing all happen in one compare-and-set
+public final class DailyCounter {
+
+    private final AtomicLong state = new AtomicLong();
+
+    // Part of the count the store already holds; only the flusher reads and writes it
+    private long flushed;
+
+    public DailyCounter() {
+    }
+
+    // Starts from a persisted snapshot
+    public DailyCounter(long day, int used) {
+        state.set(pack(day, used));
+        flushed = state.get();
+    }
+
+    public boolean tryAcquire(long day, int permits, int limit) {
+        while (true) {
+            long current = state.get();
+            int used = dayOf(current) == day ? countOf(current) : 0;
+            if (used + permits > limit) {
+                return false;
+            }
+            if (state.compareAndSet(current, pack(day, used + permits))) {
+                return true;
+            }
+        }
+    }
+
+    // Gives back permits for likes that were not recorded; a day that already rolled over has nothing to return
+    public void release(long day, int permits) {
+        while (true) {
+            long current = state.get();
+            if (dayOf(current) != day) {
+                return;
+            }
+            if (state.compareAndSet(current, pack(day, Math.max(0, countOf(current) - permits)))) {
+                return;
+            }
+        }
+    }
+
+    public int used(long day) {
+        long current = state.get();
+        return dayOf(current) == day ? countOf(current) : 0;
+    }
+
+    public boolean isBefore(long day) {
+        return dayOf(state.get()) < day;
+    }
+
+    // Permits taken on the given day that the store does not hold yet; negative after refunds of flushed ones
+    public synchronized int unflushed(long day) {
+        long current = state.get();
+        if (dayOf(current) != day) {
+            return 0;
+        }
+        return countOf(current) - (dayOf(flushed) == day ? countOf(flushed) : 0);
+    }
+
+    // The store added our unflushed permits and now holds storedTotal, which also counts other replicas'.
+    // Permits taken here since unflushed() was read stay on top of it
+    public synchronized void flushed(long day, int sent, int storedTotal) {
+        int base = dayOf(flushed) == day ? countOf(flushed) : 0;
+        int sentTotal = base + sent;
+        while (true) {
+            long current = state.get();
+            if (dayOf(current) != day) {
+                return;
+            }
+            int synced = Math.max(countOf(current), storedTotal + countOf(current) - sentTotal);
+            if (state.compareAndSet(current, pack(day, synced))) {
+                break;
+            }
+        }
+        flushed = pack(day, storedTotal);
+    }
+
+    private static long pack(long day, int count) {
+        return day << 32 | count;
+    }
+
+    private static long dayOf(long state) {
+        return state >>> 32;
+    }
+
+    private static int countOf(long state) {
+        return (int) state;
+    }
+}
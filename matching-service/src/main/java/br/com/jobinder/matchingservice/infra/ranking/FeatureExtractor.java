@@ -0,0 +1,17 @@
+package br.com.jobinder.matchingservice.infra.ranking;
+
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+
+/**
+ * One ranking signal. Every extractor bean becomes a feature column; values should be normalized to [0, 1].
+ * The weight can be overridden with {@code ranking.weights.<name>}.
+ */
+public interface FeatureExtractor {
+
+    String name();
+
+    double defaultWeight();
+
+    // Called concurrently from several threads, must be stateless
+    double extract(ProfileCardDTO candidate, RankingContext context);
+}
@@ -0,0 +1,15 @@
+package br.com.jobinder.matchingservice.infra.ranking;
+
+import java.time.LocalDateTime;
+
+// What the candidates are ranked for; null fields mean "no preference" and score neutrally
+public record RankingContext(
+        String specialtyName,
+        String city,
+        String state,
+        LocalDateTime now
+) {
+    public static RankingContext neutral() {
+        return new RankingContext(null, null, null, LocalDateTime.now());
+    }
+}
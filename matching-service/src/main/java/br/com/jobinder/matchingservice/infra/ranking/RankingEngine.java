@@ -0,0 +1,65 @@
+package br.com.jobinder.matchingservice.infra.ranking;
+
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Scores candidates with the registered feature extractors and scoring function and returns the top K.
+ * Features are laid out column-major in primitive arrays; large batches are extracted and scored
+ * in parallel chunks on the common fork-join pool.
+ */
+@Component
+public class RankingEngine {
+
+    @Autowired
+    private List<FeatureExtractor> extractors;
+
+    @Autowired
+    private ScoringFunction scoringFunction;
+
+    // Below this, fork-join overhead costs more than it saves
+    @Value("${ranking.parallel-threshold:2048}")
+    private int parallelThreshold;
+
+    @Value("${ranking.chunk-size:1024}")
+    private int chunkSize;
+
+    public List<ProfileCardDTO> topK(List<ProfileCardDTO> candidates, RankingContext context, int k) {
+        int n = candidates.size();
+        if (n == 0 || k <= 0) {
+            return List.of();
+        }
+        boolean parallel = n >= parallelThreshold;
+
+        double[][] features = new double[extractors.size()][n];
+        range(n, parallel).forEach(i -> {
+            var candidate = candidates.get(i);
+            for (int f = 0; f < features.length; f++) {
+                features[f][i] = extractors.get(f).extract(candidate, context);
+            }
+        });
+
+        double[] scores = new double[n];
+        int chunks = (n + chunkSize - 1) / chunkSize;
+        range(chunks, parallel).forEach(c ->
+                scoringFunction.score(extractors, features, scores, c * chunkSize, Math.min(n, (c + 1) * chunkSize)));
+
+        int[] best = ScoringKernel.topK(scores, n, k);
+        List<ProfileCardDTO> result = new ArrayList<>(best.length);
+        for (int index : best) {
+            result.add(candidates.get(index));
+        }
+        return result;
+    }
+
+    private static IntStream range(int n, boolean parallel) {
+        var stream = IntStream.range(0, n);
+        return parallel ? stream.parallel() : stream;
+    }
+}
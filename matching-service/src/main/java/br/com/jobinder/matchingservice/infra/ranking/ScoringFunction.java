@@ -0,0 +1,13 @@
+package br.com.jobinder.matchingservice.infra.ranking;
+
+import java.util.List;
+
+/**
+ * Turns feature columns into scores. {@code features[f][i]} is feature {@code f} of candidate {@code i};
+ * implementations fill {@code scores[from..to)} and are called concurrently on disjoint ranges.
+ * Declare a {@code @Primary} bean to replace the weighted sum, e.g. with a learned model.
+ */
+public interface ScoringFunction {
+
+    void score(List<FeatureExtractor> extractors, double[][] features, double[] scores, int from, int to);
+}
@@ -0,0 +1,83 @@
+package br.com.jobinder.matchingservice.infra.ranking;
+
+// Hot loops of the ranking engine, kept free of objects so the JIT can vectorize them
+public final class ScoringKernel {
+
+    private ScoringKernel() {
+    }
+
+    // scores[i] = sum over f of weights[f] * features[f][i], walking one feature column at a time
+    public static void weightedSum(double[][] features, double[] weights, double[] scores, int from, int to) {
+        for (int i = from; i < to; i++) {
+            scores[i] = 0;
+        }
+        for (int f = 0; f < features.length; f++) {
+            double weight = weights[f];
+            if (weight == 0) {
+                continue;
+            }
+            double[] column = features[f];
+            for (int i = from; i < to; i++) {
+                scores[i] += weight * column[i];
+            }
+        }
+    }
+
+    // Indices of the k best scores, best first, using a bounded min-heap: O(n log k) time, O(k) space
+    public static int[] topK(double[] scores, int n, int k) {
+        int size = Math.min(k, n);
+        if (size <= 0) {
+            return new int[0];
+        }
+        int[] heap = new int[size];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (count < size) {
+                heap[count] = i;
+                siftUp(heap, scores, count++);
+            } else if (scores[i] > scores[heap[0]]) {
+                heap[0] = i;
+                siftDown(heap, scores, 0, size);
+            }
+        }
+        // Drain the heap: the smallest comes out first, so fill from the back
+        int[] result = new int[size];
+        for (int last = size - 1; last >= 0; last--) {
+            result[last] = heap[0];
+            heap[0] = heap[last];
+            siftDown(heap, scores, 0, last);
+        }
+        return result;
+    }
+
+    private static void siftUp(int[] heap, double[] scores, int index) {
+        int item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[heap[parent]] <= scores[item]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+    }
+
+    private static void siftDown(int[] heap, double[] scores, int index, int size) {
+        int item = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && scores[heap[right]] < scores[heap[child]]) {
+                child = right;
+            }
+            if (scores[item] <= scores[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = item;
+    }
+}
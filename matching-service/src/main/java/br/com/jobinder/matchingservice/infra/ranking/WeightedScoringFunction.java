@@ -0,0 +1,30 @@
+package br.com.jobinder.matchingservice.infra.ranking;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Linear model: each feature times its configured weight
+@Component
+public class WeightedScoringFunction implements ScoringFunction {
+
+    @Autowired
+    private Environment environment;
+
+    private final Map<List<FeatureExtractor>, double[]> weightsCache = new ConcurrentHashMap<>();
+
+    @Override
+    public void score(List<FeatureExtractor> extractors, double[][] features, double[] scores, int from, int to) {
+        ScoringKernel.weightedSum(features, weightsFor(extractors), scores, from, to);
+    }
+
+    private double[] weightsFor(List<FeatureExtractor> extractors) {
+        return weightsCache.computeIfAbsent(extractors, list -> list.stream()
+                .mapToDouble(extractor -> environment.getProperty("ranking.weights." + extractor.name(), Double.class, extractor.defaultWeight()))
+                .toArray());
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.jobinder.matchingservice.infra.ranking.feature;
+
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+import br.com.jobinder.matchingservice.infra.ranking.FeatureExtractor;
+import br.com.jobinder.matchingservice.infra.ranking.RankingContext;
+import org.springframework.stereotype.Component;
+
+// Log scale, so the first services performed count more than the thousandth
+@Component
+public class ExperienceFeature implements FeatureExtractor {
+
+    private static final double SATURATION = Math.log1p(1000);
+
+    @Override
+    public String name() {
+        return "experience";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 1.0;
+    }
+
+    @Override
+    public double extract(ProfileCardDTO candidate, RankingContext context) {
+        if (candidate.servicesPerformed() == null || candidate.servicesPerformed() <= 0) {
+            return 0;
+        }
+        return Math.min(1, Math.log1p(candidate.servicesPerformed()) / SATURATION);
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.jobinder.matchingservice.infra.ranking.feature;
+
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+import br.com.jobinder.matchingservice.infra.ranking.FeatureExtractor;
+import br.com.jobinder.matchingservice.infra.ranking.RankingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Exponential decay on the time since the profile was last updated
+@Component
+public class FreshnessFeature implements FeatureExtractor {
+
+    @Value("${ranking.freshness.half-life-days:30}")
+    private double halfLifeDays;
+
+    @Override
+    public String name() {
+        return "freshness";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 0.5;
+    }
+
+    @Override
+    public double extract(ProfileCardDTO candidate, RankingContext context) {
+        if (candidate.updatedAt() == null) {
+            return 0;
+        }
+        double ageDays = Math.max(0, Duration.between(candidate.updatedAt(), context.now()).toHours() / 24.0);
+        return Math.pow(0.5, ageDays / halfLifeDays);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.jobinder.matchingservice.infra.ranking.feature;
+
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+import br.com.jobinder.matchingservice.infra.ranking.FeatureExtractor;
+import br.com.jobinder.matchingservice.infra.ranking.RankingContext;
+import org.springframework.stereotype.Component;
+
+// Only city and state are known, so proximity is coarse: same city, same state or elsewhere
+@Component
+public class LocationProximityFeature implements FeatureExtractor {
+
+    @Override
+    public String name() {
+        return "location-proximity";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 2.0;
+    }
+
+    @Override
+    public double extract(ProfileCardDTO candidate, RankingContext context) {
+        if (context.state() == null || !context.state().equalsIgnoreCase(candidate.locationState())) {
+            return 0;
+        }
+        return context.city() != null && context.city().equalsIgnoreCase(candidate.locationCity()) ? 1 : 0.5;
+    }
+}
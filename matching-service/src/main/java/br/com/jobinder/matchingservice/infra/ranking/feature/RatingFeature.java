@@ -0,0 +1,27 @@
+package br.com.jobinder.matchingservice.infra.ranking.feature;
+
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+import br.com.jobinder.matchingservice.infra.ranking.FeatureExtractor;
+import br.com.jobinder.matchingservice.infra.ranking.RankingContext;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RatingFeature implements FeatureExtractor {
+
+    private static final double MAX_RATING = 5.0;
+
+    @Override
+    public String name() {
+        return "rating";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 1.5;
+    }
+
+    @Override
+    public double extract(ProfileCardDTO candidate, RankingContext context) {
+        return candidate.rating() == null ? 0 : Math.min(candidate.rating(), MAX_RATING) / MAX_RATING;
+    }
+}
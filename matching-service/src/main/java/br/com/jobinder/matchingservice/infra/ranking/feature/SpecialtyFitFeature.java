@@ -0,0 +1,28 @@
+package br.com.jobinder.matchingservice.infra.ranking.feature;
+
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+import br.com.jobinder.matchingservice.infra.ranking.FeatureExtractor;
+import br.com.jobinder.matchingservice.infra.ranking.RankingContext;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpecialtyFitFeature implements FeatureExtractor {
+
+    @Override
+    public String name() {
+        return "specialty-fit";
+    }
+
+    @Override
+    public double defaultWeight() {
+        return 3.0;
+    }
+
+    @Override
+    public double extract(ProfileCardDTO candidate, RankingContext context) {
+        if (context.specialtyName() == null || candidate.specialtyName() == null) {
+            return 0;
+        }
+        return context.specialtyName().equalsIgnoreCase(candidate.specialtyName()) ? 1 : 0;
+    }
+}
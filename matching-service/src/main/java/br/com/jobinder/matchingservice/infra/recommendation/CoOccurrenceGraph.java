@@ -0,0 +1,189 @@
+package br.com.jobinder.matchingservice.infra.recommendation;
+
+import br.com.jobinder.matchingservice.dto.RecommendationDTO;
+import br.com.jobinder.matchingservice.infra.ranking.ScoringKernel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Client-professional match graph with a professional x professional co-occurrence count:
+// co[p][q] is the number of clients matched with both p and q. Users are interned to dense ints so
+// adjacency and counts live in primitive arrays. Not thread-safe; CoOccurrenceIndex guards it
+class CoOccurrenceGraph {
+
+    private final Interner clients = new Interner();
+    private final Interner professionals = new Interner();
+
+    private final List<IntList> prosOfClient = new ArrayList<>();
+    private final List<IntList> clientsOfPro = new ArrayList<>();
+    private final List<IntIntMap> coCounts = new ArrayList<>();
+
+    private long edgeCount;
+
+    long edgeCount() {
+        return edgeCount;
+    }
+
+    // Idempotent; costs one count update per professional the client already matched
+    boolean add(UUID clientUserId, UUID professionalUserId) {
+        int client = clients.intern(clientUserId);
+        int pro = professionals.intern(professionalUserId);
+        grow(prosOfClient, client);
+        grow(clientsOfPro, pro);
+        while (coCounts.size() <= pro) {
+            coCounts.add(new IntIntMap());
+        }
+
+        var pros = prosOfClient.get(client);
+        if (pros.contains(pro)) {
+            return false;
+        }
+        var counts = coCounts.get(pro);
+        for (int i = 0; i < pros.size(); i++) {
+            int other = pros.get(i);
+            counts.addTo(other, 1);
+            coCounts.get(other).addTo(pro, 1);
+        }
+        pros.add(pro);
+        clientsOfPro.get(pro).add(client);
+        edgeCount++;
+        return true;
+    }
+
+    // A deleted account may have been either side, so both are cleared
+    void removeUser(UUID userId) {
+        removeClient(userId);
+        removeProfessional(userId);
+    }
+
+    private void removeClient(UUID userId) {
+        int client = clients.release(userId);
+        if (client < 0) {
+            return;
+        }
+        var pros = prosOfClient.get(client);
+        for (int i = 0; i < pros.size(); i++) {
+            int pro = pros.get(i);
+            clientsOfPro.get(pro).remove(client);
+            for (int j = 0; j < pros.size(); j++) {
+                if (j != i) {
+                    coCounts.get(pro).addTo(pros.get(j), -1);
+                }
+            }
+        }
+        edgeCount -= pros.size();
+        pros.clear();
+    }
+
+    private void removeProfessional(UUID userId) {
+        int pro = professionals.release(userId);
+        if (pro < 0) {
+            return;
+        }
+        var clientsOf = clientsOfPro.get(pro);
+        for (int i = 0; i < clientsOf.size(); i++) {
+            var pros = prosOfClient.get(clientsOf.get(i));
+            pros.remove(pro);
+            for (int j = 0; j < pros.size(); j++) {
+                coCounts.get(pros.get(j)).addTo(pro, -1);
+            }
+        }
+        edgeCount -= clientsOf.size();
+        clientsOf.clear();
+        coCounts.set(pro, new IntIntMap());
+    }
+
+    // Professionals matched by clients who share the caller's most recent matches, scored by co-occurrence
+    // count damped by the candidate's degree so that professionals everyone matches do not dominate
+    List<RecommendationDTO> recommend(UUID clientUserId, int maxSeeds, int limit) {
+        int client = clients.find(clientUserId);
+        if (client < 0 || limit <= 0) {
+            return List.of();
+        }
+        var pros = prosOfClient.get(client);
+        var totals = new IntIntMap();
+        for (int i = Math.max(0, pros.size() - maxSeeds); i < pros.size(); i++) {
+            coCounts.get(pros.get(i)).forEach(totals::addTo);
+        }
+        // Already matched professionals are not recommended again
+        for (int i = 0; i < pros.size(); i++) {
+            totals.remove(pros.get(i));
+        }
+        if (totals.size() == 0) {
+            return List.of();
+        }
+
+        int[] candidates = new int[totals.size()];
+        double[] scores = new double[totals.size()];
+        int[] n = {0};
+        totals.forEach((pro, count) -> {
+            candidates[n[0]] = pro;
+            scores[n[0]] = count / Math.sqrt(clientsOfPro.get(pro).size());
+            n[0]++;
+        });
+
+        int[] best = ScoringKernel.topK(scores, n[0], limit);
+        List<RecommendationDTO> recommendations = new ArrayList<>(best.length);
+        for (int i : best) {
+            recommendations.add(new RecommendationDTO(professionals.uuidOf(candidates[i]), scores[i]));
+        }
+        return recommendations;
+    }
+
+    private static void grow(List<IntList> lists, int index) {
+        while (lists.size() <= index) {
+            lists.add(new IntList());
+        }
+    }
+
+    // UUID <-> dense int; released ints are reused so deletions do not leave holes behind
+    private static final class Interner {
+
+        private final Map<UUID, Integer> ids = new HashMap<>();
+        private final List<UUID> uuids = new ArrayList<>();
+        private final IntList free = new IntList();
+
+        int size() {
+            return ids.size();
+        }
+
+        int find(UUID uuid) {
+            var id = ids.get(uuid);
+            return id == null ? -1 : id;
+        }
+
+        int intern(UUID uuid) {
+            var id = ids.get(uuid);
+            if (id != null) {
+                return id;
+            }
+            int next;
+            if (free.size() > 0) {
+                next = free.removeLast();
+                uuids.set(next, uuid);
+            } else {
+                next = uuids.size();
+                uuids.add(uuid);
+            }
+            ids.put(uuid, next);
+            return next;
+        }
+
+        int release(UUID uuid) {
+            var id = ids.remove(uuid);
+            if (id == null) {
+                return -1;
+            }
+            uuids.set(id, null);
+            free.add(id);
+            return id;
+        }
+
+        UUID uuidOf(int id) {
+            return uuids.get(id);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.jobinder.matchingservice.infra.recommendation;
+
+import br.com.jobinder.matchingservice.domain.match.MatchPairView;
+import br.com.jobinder.matchingservice.domain.match.MatchRepository;
+import br.com.jobinder.matchingservice.dto.MatchNotificationEvent;
+import br.com.jobinder.matchingservice.dto.RecommendationDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Per-node "clients like you also matched" index. Loaded once from the matches table at startup and then
+// kept current by every match broadcast and account deletion, so there is no periodic recompute
+@Component
+public class CoOccurrenceIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CoOccurrenceIndex.class);
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Only the client's most recent matches seed a query, which bounds its cost for heavy users
+    @Value("${recommendations.max-seeds:50}")
+    private int maxSeeds;
+
+    private final CoOccurrenceGraph graph = new CoOccurrenceGraph();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Live updates received while load() streams the table, applied after it in arrival order, so the stream
+    // neither brings back a deleted user nor appends older matches behind a new one. Null outside a load
+    private List<Consumer<CoOccurrenceGraph>> deferred;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("recommendations.index.edges", this, index -> index.read(() -> (double) index.graph.edgeCount()))
+                .register(meterRegistry);
+    }
+
+    public List<RecommendationDTO> recommend(UUID clientUserId, int limit) {
+        return read(() -> graph.recommend(clientUserId, maxSeeds, limit));
+    }
+
+    public void add(UUID clientUserId, UUID professionalUserId) {
+        apply(graph -> graph.add(clientUserId, professionalUserId));
+    }
+
+    public void removeUser(UUID userId) {
+        apply(graph -> graph.removeUser(userId));
+    }
+
+    private void apply(Consumer<CoOccurrenceGraph> update) {
+        write(() -> {
+            if (deferred != null) {
+                deferred.add(update);
+            } else {
+                update.accept(graph);
+            }
+        });
+    }
+
+    // Every replica sees every new match, including its own, through the notification fanout
+    @EventListener
+    public void onMatchCreated(MatchNotificationEvent event) {
+        add(event.clientUserId(), event.professionalUserId());
+    }
+
+    // Oldest first, so the seeds of a query really are the client's most recent matches.
+    // Archived matches are left out: the index follows recent taste
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        write(() -> deferred = new ArrayList<>());
+        try {
+            Long loaded = transactionTemplate.execute(status -> {
+                // Rows go in under one write lock per batch, so queries keep running between batches
+                List<MatchPairView> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+                long[] count = {0};
+                try (var pairs = matchRepository.streamAllPairsOldestFirst()) {
+                    pairs.forEach(pair -> {
+                        batch.add(pair);
+                        count[0]++;
+                        if (batch.size() == LOAD_BATCH_SIZE) {
+                            addLoaded(batch);
+                        }
+                    });
+                }
+                addLoaded(batch);
+                return count[0];
+            });
+            log.info("Co-occurrence index loaded with {} matches", loaded);
+        } catch (Exception e) {
+            log.warn("Could not load the co-occurrence index: {}", e.getMessage());
+        } finally {
+            write(() -> {
+                deferred.forEach(update -> update.accept(graph));
+                deferred = null;
+            });
+        }
+    }
+
+    private void addLoaded(List<MatchPairView> batch) {
+        write(() -> batch.forEach(pair -> graph.add(pair.getClientUserId(), pair.getProfessionalUserId())));
+        batch.clear();
+    }
+
+    private void write(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.jobinder.matchingservice.infra.recommendation;
+
+import java.util.Arrays;
+
+// Open-addressing int -> int counter map with linear probing; keys must be non-negative
+final class IntIntMap {
+
+    private static final int EMPTY = -1;
+    // Left behind by removals so probe chains stay intact; reused by later inserts
+    private static final int DELETED = -2;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int used;
+
+    IntIntMap() {
+        this(8);
+    }
+
+    IntIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    // Adds delta to the key's count; the entry disappears when the count reaches zero
+    void addTo(int key, int delta) {
+        int slot = find(key);
+        if (slot >= 0) {
+            values[slot] += delta;
+            if (values[slot] == 0) {
+                keys[slot] = DELETED;
+                size--;
+            }
+            return;
+        }
+        if (delta == 0) {
+            return;
+        }
+        if ((used + 1) * 4 > keys.length * 3) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (keys[i] >= 0) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == EMPTY) {
+            used++;
+        }
+        keys[i] = key;
+        values[i] = delta;
+        size++;
+    }
+
+    void remove(int key) {
+        int slot = find(key);
+        if (slot >= 0) {
+            keys[slot] = DELETED;
+            size--;
+        }
+    }
+
+    interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] >= 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        // Only grow when live entries need it; a table full of tombstones is rebuilt at the same size
+        int capacity = size * 2 >= oldKeys.length ? oldKeys.length * 2 : oldKeys.length;
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        size = 0;
+        used = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] >= 0) {
+                addTo(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
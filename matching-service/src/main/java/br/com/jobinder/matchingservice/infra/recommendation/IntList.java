@@ -0,0 +1,55 @@
+package br.com.jobinder.matchingservice.infra.recommendation;
+
+import java.util.Arrays;
+
+// Growable list of ints without boxing; adjacency lists of the co-occurrence index
+final class IntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    boolean contains(int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int removeLast() {
+        return values[--size];
+    }
+
+    // Keeps insertion order, which the index relies on to find a client's most recent matches
+    boolean remove(int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                System.arraycopy(values, i + 1, values, i, size - i - 1);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void clear() {
+        values = new int[4];
+        size = 0;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.jobinder.matchingservice.listener;
+
+import br.com.jobinder.matchingservice.dto.LikeInboxEvent;
+import br.com.jobinder.matchingservice.service.LikeInboxService;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LikeInboxListener {
+
+    @Autowired
+    private LikeInboxService likeInboxService;
+
+    @RabbitListener(queues = "#{likeInboxQueue.name}")
+    public void onLikeInboxUpdate(LikeInboxEvent event) {
+        likeInboxService.apply(event);
+    }
+}
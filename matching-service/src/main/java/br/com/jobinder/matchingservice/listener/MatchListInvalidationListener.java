@@ -0,0 +1,20 @@
+package br.com.jobinder.matchingservice.listener;
+
+import br.com.jobinder.matchingservice.dto.MatchListInvalidationEvent;
+import br.com.jobinder.matchingservice.infra.cache.MatchListCache;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MatchListInvalidationListener {
+
+    @Autowired
+    private MatchListCache matchListCache;
+
+    // Each replica consumes from its own auto-delete queue bound to the fanout exchange
+    @RabbitListener(queues = "#{matchListInvalidationQueue.name}")
+    public void onInvalidation(MatchListInvalidationEvent event) {
+        matchListCache.invalidateLocally(event.userIds());
+    }
+}
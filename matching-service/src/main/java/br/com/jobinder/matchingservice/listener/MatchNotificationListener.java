@@ -0,0 +1,20 @@
+package br.com.jobinder.matchingservice.listener;
+
+import br.com.jobinder.matchingservice.dto.MatchNotificationEvent;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MatchNotificationListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Handed to every local consumer of new matches: open SSE streams and the co-occurrence index
+    @RabbitListener(queues = "#{matchNotificationsQueue.name}")
+    public void onMatchCreated(MatchNotificationEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+}
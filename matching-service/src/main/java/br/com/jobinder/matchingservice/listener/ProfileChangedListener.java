@@ -0,0 +1,20 @@
+package br.com.jobinder.matchingservice.listener;
+
+import br.com.jobinder.matchingservice.dto.ProfileChangedEvent;
+import br.com.jobinder.matchingservice.service.UserRoleService;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProfileChangedListener {
+
+    @Autowired
+    private UserRoleService userRoleService;
+
+    // Per replica: a user who just created a service profile must stop counting as a client on every node
+    @RabbitListener(queues = "#{replicaProfileChangedQueue.name}")
+    public void onProfileChanged(ProfileChangedEvent event) {
+        userRoleService.evict(event.userId());
+    }
+}
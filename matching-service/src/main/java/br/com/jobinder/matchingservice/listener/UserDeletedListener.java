@@ -0,0 +1,47 @@
+package br.com.jobinder.matchingservice.listener;
+
+import br.com.jobinder.matchingservice.dto.UserDeletedEvent;
+import br.com.jobinder.matchingservice.infra.recommendation.CoOccurrenceIndex;
+import br.com.jobinder.matchingservice.service.LikeInboxService;
+import br.com.jobinder.matchingservice.service.MatchingService;
+import br.com.jobinder.matchingservice.service.SeenService;
+import br.com.jobinder.matchingservice.service.UserRoleService;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserDeletedListener {
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private CoOccurrenceIndex coOccurrenceIndex;
+
+    @Autowired
+    private LikeInboxService likeInboxService;
+
+    @Autowired
+    private SeenService seenService;
+
+    @Autowired
+    private UserRoleService userRoleService;
+
+    @RabbitListener(queues = "${rabbitmq.queues.user-deleted}")
+    public void onUserDeleted(UserDeletedEvent event) {
+        // Deletes are idempotent, so redeliveries are harmless
+        matchingService.deleteMatchesByUserId(event.userId());
+        matchingService.deleteLikesByUserId(event.userId());
+        seenService.deleteUser(event.userId());
+    }
+
+    // Per-replica queue: the shared one above reaches a single node, but each holds its own in-memory state
+    @RabbitListener(queues = "#{replicaUserDeletedQueue.name}")
+    public void onUserDeletedLocally(UserDeletedEvent event) {
+        coOccurrenceIndex.removeUser(event.userId());
+        likeInboxService.removeUser(event.userId());
+        seenService.evictUser(event.userId());
+        userRoleService.evict(event.userId());
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.client.IdentityServiceClient;
+import br.com.jobinder.matchingservice.domain.match.MatchRepository;
+import br.com.jobinder.matchingservice.dto.DeckResponseDTO;
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+import br.com.jobinder.matchingservice.infra.deck.ClientDeck;
+import br.com.jobinder.matchingservice.infra.ranking.RankingContext;
+import br.com.jobinder.matchingservice.infra.ranking.RankingEngine;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Serves swipe candidates from per-client queues that are refilled in the background
+@Service
+public class DeckService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeckService.class);
+
+    @Autowired
+    private IdentityServiceClient identityServiceClient;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private SeenService seenService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor deckRefillExecutor;
+
+    @Autowired
+    private RankingEngine rankingEngine;
+
+    @Value("${deck.cache.max-clients:50000}")
+    private long maxClients;
+
+    @Value("${deck.cache.expire-after-access-minutes:30}")
+    private long expireAfterAccessMinutes;
+
+    @Value("${deck.max-size:100}")
+    private int maxDeckSize;
+
+    @Value("${deck.low-watermark:20}")
+    private int lowWatermark;
+
+    @Value("${deck.refill.page-size:100}")
+    private int pageSize;
+
+    @Value("${deck.refill.max-pages:5}")
+    private int maxPagesPerRefill;
+
+    private Cache<UUID, ClientDeck> decks;
+
+    @PostConstruct
+    void initCache() {
+        decks = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+    }
+
+    // Memory only: never waits for identity-service, a short deck just triggers a refill
+    public DeckResponseDTO nextCandidates(UUID clientUserId, int count) {
+        var deck = decks.get(clientUserId, id -> new ClientDeck());
+        var candidates = deck.poll(Math.min(Math.max(count, 1), maxDeckSize));
+        if (deck.size() < lowWatermark) {
+            scheduleRefill(clientUserId, deck);
+        }
+        return new DeckResponseDTO(candidates, deck.isRefilling());
+    }
+
+    private void scheduleRefill(UUID clientUserId, ClientDeck deck) {
+        if (!deck.tryStartRefill()) {
+            return;
+        }
+        try {
+            deckRefillExecutor.execute(() -> {
+                try {
+                    refill(clientUserId, deck);
+                } catch (Exception e) {
+                    log.warn("Deck refill failed for {}: {}", clientUserId, e.getMessage());
+                } finally {
+                    deck.finishRefill();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            deck.finishRefill();
+            log.warn("Deck refill queue is full, skipping refill for {}", clientUserId);
+        }
+    }
+
+    private void refill(UUID clientUserId, ClientDeck deck) {
+        var excluded = new HashSet<>(matchRepository.findCounterpartUserIds(clientUserId));
+        excluded.add(clientUserId);
+
+        // Candidates from every page read are ranked together, so the deck gets the best of the whole refill
+        int needed = maxDeckSize - deck.size();
+        Map<UUID, ProfileCardDTO> candidates = new LinkedHashMap<>();
+        int page = deck.nextPage();
+        boolean wrapped = false;
+        for (int read = 0; read < maxPagesPerRefill && candidates.size() < needed; read++) {
+            var cards = identityServiceClient.browseProfileCards(page, pageSize);
+            if (cards.isEmpty()) {
+                // End of the catalog: start over once, the seen filter drops what was already swiped
+                if (wrapped || page == 0) {
+                    page = 0;
+                    break;
+                }
+                page = 0;
+                wrapped = true;
+                continue;
+            }
+            page++;
+
+            List<ProfileCardDTO> eligible = new ArrayList<>();
+            for (var card : cards) {
+                if (!excluded.contains(card.userId()) && !deck.isQueued(card.userId()) && !candidates.containsKey(card.userId())) {
+                    eligible.add(card);
+                }
+            }
+            if (eligible.isEmpty()) {
+                continue;
+            }
+            var unseen = seenService.filterUnseen(clientUserId, eligible.stream().map(ProfileCardDTO::userId).toList());
+            eligible.stream().filter(card -> unseen.contains(card.userId())).forEach(card -> candidates.put(card.userId(), card));
+        }
+        // Clients have no stated specialty or location yet, so those features score neutrally
+        deck.addAll(rankingEngine.topK(List.copyOf(candidates.values()), RankingContext.neutral(), needed));
+        deck.setNextPage(page);
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.domain.like.LikeRepository;
+import br.com.jobinder.matchingservice.dto.LikeInboxEvent;
+import br.com.jobinder.matchingservice.dto.ReceivedLikeCountDTO;
+import br.com.jobinder.matchingservice.dto.ReceivedLikeDTO;
+import br.com.jobinder.matchingservice.dto.ReceivedLikesDTO;
+import br.com.jobinder.matchingservice.infra.inbox.LikerRing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// "Who liked me": per-user pending like counts and the most recent likers, kept in memory on every replica.
+// Likes committed anywhere reach every replica over a fanout exchange; the whole inbox is rebuilt from
+// the likes table at startup and nightly, which also corrects any drift from lost broadcasts
+@Service
+public class LikeInboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeInboxService.class);
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${rabbitmq.exchanges.like-inbox}")
+    private String likeInboxExchange;
+
+    @Value("${inbox.ring-size:50}")
+    private int ringSize;
+
+    private final Map<UUID, LikerRing> rings = new ConcurrentHashMap<>();
+
+    public ReceivedLikeCountDTO countReceived(UUID userId) {
+        var ring = rings.get(userId);
+        return new ReceivedLikeCountDTO(ring == null ? 0 : ring.pending());
+    }
+
+    public ReceivedLikesDTO findReceived(UUID userId, int limit) {
+        var ring = rings.get(userId);
+        if (ring == null) {
+            return new ReceivedLikesDTO(0, List.of());
+        }
+        // Only after a liker in the ring matched; the reload is one indexed query for this user
+        if (ring.isShort()) {
+            reload(userId, ring);
+        }
+        return new ReceivedLikesDTO(ring.pending(), ring.newest(Math.min(Math.max(limit, 1), ringSize)));
+    }
+
+    // Broadcasts once the current transaction commits, so inboxes never show a like that rolled back
+    public void publishAfterCommit(Collection<LikeInboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        var pending = List.copyOf(events);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(pending);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(pending);
+            }
+        });
+    }
+
+    private void broadcast(List<LikeInboxEvent> events) {
+        for (var event : events) {
+            try {
+                rabbitTemplate.convertAndSend(likeInboxExchange, "", event);
+            } catch (AmqpException e) {
+                // Other replicas catch up at the next rebuild
+                log.warn("Could not broadcast like inbox update for {}: {}", event.ownerUserId(), e.getMessage());
+                apply(event);
+            }
+        }
+    }
+
+    // Called for every broadcast update, including the ones committed on this replica
+    public void apply(LikeInboxEvent event) {
+        if (event.pending()) {
+            rings.computeIfAbsent(event.ownerUserId(), id -> new LikerRing(ringSize)).add(event.likerUserId(), event.likedAt());
+        } else {
+            var ring = rings.get(event.ownerUserId());
+            if (ring != null) {
+                ring.remove(event.likerUserId());
+            }
+        }
+    }
+
+    // Drops the user's own inbox and their entries in recent likers. Likes they sent that are older than a ring
+    // still count there until the next rebuild, which no longer finds them once the user.deleted purge removed them
+    public void removeUser(UUID userId) {
+        rings.remove(userId);
+        rings.values().forEach(ring -> ring.removeIfPresent(userId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${inbox.rebuild-cron:0 45 4 * * *}")
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        try {
+            Integer loaded = transactionTemplate.execute(status -> {
+                Map<UUID, List<ReceivedLikeDTO>> newest = new HashMap<>();
+                try (var likes = likeRepository.streamNewestPending(ringSize)) {
+                    likes.forEach(like -> newest.computeIfAbsent(like.getOwnerUserId(), id -> new ArrayList<>())
+                            .add(new ReceivedLikeDTO(like.getLikerUserId(), like.getCreatedAt())));
+                }
+                Map<UUID, Integer> counts = new HashMap<>();
+                try (var pending = likeRepository.streamPendingCounts()) {
+                    pending.forEach(count -> counts.put(count.getOwnerUserId(), (int) count.getPending()));
+                }
+                // Inboxes updated while the queries ran keep their live state until the next rebuild
+                rings.entrySet().removeIf(entry -> !counts.containsKey(entry.getKey()) && !entry.getValue().touchedSince(startedAt));
+                counts.forEach((userId, count) -> {
+                    var ring = rings.computeIfAbsent(userId, id -> new LikerRing(ringSize));
+                    if (!ring.touchedSince(startedAt)) {
+                        ring.reset(count, newest.getOrDefault(userId, List.of()));
+                    }
+                });
+                return counts.size();
+            });
+            log.info("Like inbox built for {} users", loaded);
+        } catch (Exception e) {
+            log.warn("Could not build the like inbox: {}", e.getMessage());
+        }
+    }
+
+    private void reload(UUID userId, LikerRing ring) {
+        var newest = likeRepository.findNewestPending(userId, ringSize).stream()
+                .map(like -> new ReceivedLikeDTO(like.getLikerUserId(), like.getCreatedAt()))
+                .toList();
+        ring.reset(likeRepository.countPending(userId), newest);
+    }
+}
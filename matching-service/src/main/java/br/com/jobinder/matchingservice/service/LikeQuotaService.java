@@ -0,0 +1,147 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.domain.quota.LikeQuotaRepository;
+import br.com.jobinder.matchingservice.infra.exception.QuotaExceededException;
+import br.com.jobinder.matchingservice.infra.quota.DailyCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Daily like limits checked in memory before any database work. Counters are synced to like_quotas
+// in the background, which survives restarts and lets replicas see each other's counts within one interval
+@Service
+public class LikeQuotaService {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeQuotaService.class);
+
+    @Autowired
+    private LikeQuotaRepository likeQuotaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${quotas.likes.daily-limit:200}")
+    private int dailyLimit;
+
+    @Value("${quotas.likes.zone:UTC}")
+    private ZoneId zone;
+
+    private final Map<UUID, DailyCounter> counters = new ConcurrentHashMap<>();
+
+    private Counter rejected;
+
+    @PostConstruct
+    void registerMetrics() {
+        rejected = Counter.builder("likes.quota.rejected").register(meterRegistry);
+    }
+
+    // Takes one permit per like, all or nothing for bulk requests
+    public void acquire(UUID userId, int permits) {
+        long day = today();
+        while (true) {
+            var counter = counters.computeIfAbsent(userId, id -> new DailyCounter());
+            if (!counter.tryAcquire(day, permits, dailyLimit)) {
+                rejected.increment();
+                throw new QuotaExceededException("Daily like limit of " + dailyLimit + " reached.", secondsUntilReset());
+            }
+            // The flusher drops counters left from earlier days; a permit taken on a dropped one is taken again
+            if (counters.get(userId) == counter) {
+                return;
+            }
+        }
+    }
+
+    // Returns permits taken for likes that were rejected or turned out to be repeats
+    public void release(UUID userId, int permits) {
+        var counter = counters.get(userId);
+        if (counter != null && permits > 0) {
+            counter.release(today(), permits);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var day = LocalDate.now(zone);
+        try {
+            var snapshots = likeQuotaRepository.findAllByQuotaDay(day);
+            snapshots.forEach(quota -> counters.putIfAbsent(quota.getUserId(), new DailyCounter(day.toEpochDay(), quota.getUsed())));
+            log.info("Loaded {} like quota snapshots", snapshots.size());
+        } catch (Exception e) {
+            log.warn("Could not load like quota snapshots: {}", e.getMessage());
+        }
+    }
+
+    // One statement per flush for all users who liked since the last one
+    @Scheduled(fixedDelayString = "${quotas.likes.flush-interval-ms:5000}")
+    public void flushDirty() {
+        var day = LocalDate.now(zone);
+        long epochDay = day.toEpochDay();
+        counters.values().removeIf(counter -> counter.isBefore(epochDay));
+
+        Map<UUID, Integer> deltas = new HashMap<>();
+        counters.forEach((userId, counter) -> {
+            int unflushed = counter.unflushed(epochDay);
+            if (unflushed != 0) {
+                deltas.put(userId, unflushed);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            var totals = transactionTemplate.execute(status -> likeQuotaRepository.addUsage(day, deltas));
+            totals.forEach((userId, total) -> {
+                var counter = counters.get(userId);
+                if (counter != null) {
+                    counter.flushed(epochDay, deltas.get(userId), total);
+                }
+            });
+        } catch (Exception e) {
+            // Deltas stay unflushed and go out with the next attempt
+            log.warn("Could not persist like quotas for {} users, will retry: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flushDirty();
+    }
+
+    @Scheduled(cron = "${quotas.likes.cleanup-cron:0 15 0 * * *}", zone = "${quotas.likes.zone:UTC}")
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status -> likeQuotaRepository.deleteByQuotaDayBefore(LocalDate.now(zone)));
+        log.info("Deleted {} expired like quota snapshots", deleted);
+    }
+
+    private long today() {
+        return LocalDate.now(zone).toEpochDay();
+    }
+
+    private long secondsUntilReset() {
+        var now = ZonedDateTime.now(zone);
+        var midnight = now.toLocalDate().plusDays(1).atStartOfDay(zone);
+        return Math.max(1, Duration.between(now, midnight).toSeconds());
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.domain.like.LikeRepository;
+import br.com.jobinder.matchingservice.dto.BulkLikeItemDTO;
+import br.com.jobinder.matchingservice.dto.BulkLikeResponseDTO;
+import br.com.jobinder.matchingservice.dto.BulkLikeStatus;
+import br.com.jobinder.matchingservice.dto.LikeInboxEvent;
+import br.com.jobinder.matchingservice.dto.LikeResponseDTO;
+import br.com.jobinder.matchingservice.infra.cache.MatchListCache.Side;
+import br.com.jobinder.matchingservice.infra.exception.InvalidLikeException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class LikeService {
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private SeenService seenService;
+
+    @Autowired
+    private LikeInboxService likeInboxService;
+
+    @Autowired
+    private LikeQuotaService likeQuotaService;
+
+    @Autowired
+    private UserRoleService userRoleService;
+
+    // Callers take one quota permit per requested like before calling in. Permits for likes that were not
+    // recorded go back once the transaction ends: all of them on rollback, the unrecorded ones on commit
+    private AtomicInteger refundUnrecorded(UUID userId, int permits) {
+        var recorded = new AtomicInteger();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                likeQuotaService.release(userId, status == STATUS_COMMITTED ? permits - recorded.get() : permits);
+            }
+        });
+        return recorded;
+    }
+
+    @Transactional
+    public LikeResponseDTO like(UUID likerUserId, UUID likedUserId) {
+        var recorded = refundUnrecorded(likerUserId, 1);
+        if (likerUserId.equals(likedUserId)) {
+            throw new InvalidLikeException("Users cannot like themselves.");
+        }
+
+        var professionalFlags = userRoleService.findProfessionalFlags(List.of(likerUserId, likedUserId));
+        Boolean likerIsProfessional = professionalFlags.get(likerUserId);
+        Boolean likedIsProfessional = professionalFlags.get(likedUserId);
+        if (likerIsProfessional == null || likedIsProfessional == null) {
+            throw new InvalidLikeException("User not found.");
+        }
+        if (likerIsProfessional.equals(likedIsProfessional)) {
+            throw new InvalidLikeException("Clients can only like professionals and professionals can only like clients.");
+        }
+
+        seenService.markSeenAfterCommit(likerUserId, List.of(likedUserId));
+        likeRepository.lockPair(LikeRepository.pairKey(likerUserId, likedUserId));
+        var now = LocalDateTime.now();
+        var outcome = likeRepository.insertAndCheckReciprocal(likerUserId, likedUserId, now);
+        if (outcome.getInserted()) {
+            recorded.set(1);
+        }
+
+        // A repeated like cannot complete a match: the reverse like was already there the first time
+        if (!outcome.getInserted() || !outcome.getReciprocal()) {
+            if (outcome.getInserted()) {
+                likeInboxService.publishAfterCommit(List.of(new LikeInboxEvent(likedUserId, likerUserId, now, true)));
+            }
+            return new LikeResponseDTO(false, null, "Like recorded.");
+        }
+
+        var matchId = likerIsProfessional
+                ? matchingService.createMatch(likedUserId, likerUserId)
+                : matchingService.createMatch(likerUserId, likedUserId);
+        likeInboxService.publishAfterCommit(List.of(new LikeInboxEvent(likerUserId, likedUserId, null, false)));
+        return new LikeResponseDTO(true, matchId, "It's a match! Chat enabled.");
+    }
+
+    // Replays a queue of swipes in one transaction: one batch of pair locks, one batch of like inserts,
+    // one reciprocal lookup and one batch of matches, instead of a transaction per swipe
+    @Transactional
+    public BulkLikeResponseDTO likeAll(UUID likerUserId, List<UUID> likedUserIds) {
+        var distinct = new LinkedHashSet<>(likedUserIds);
+        var recorded = refundUnrecorded(likerUserId, distinct.size());
+        var userIds = new ArrayList<>(distinct);
+        userIds.add(likerUserId);
+        var professionalFlags = userRoleService.findProfessionalFlags(userIds);
+        Boolean likerIsProfessional = professionalFlags.get(likerUserId);
+        if (likerIsProfessional == null) {
+            throw new InvalidLikeException("User not found.");
+        }
+
+        // Only users on the other side can be liked: clients like professionals and professionals like clients.
+        // The user's own ID, unknown users and users on the same side are reported as INVALID
+        Map<UUID, BulkLikeItemDTO> results = new HashMap<>();
+        List<UUID> targets = new ArrayList<>();
+        for (UUID likedUserId : distinct) {
+            var likedIsProfessional = professionalFlags.get(likedUserId);
+            if (likedIsProfessional == null || likedIsProfessional.equals(likerIsProfessional)) {
+                results.put(likedUserId, new BulkLikeItemDTO(likedUserId, BulkLikeStatus.INVALID, null));
+            } else {
+                targets.add(likedUserId);
+            }
+        }
+
+        if (!targets.isEmpty()) {
+            seenService.markSeenAfterCommit(likerUserId, targets);
+            likeRepository.lockPairs(targets.stream().mapToLong(likedUserId -> LikeRepository.pairKey(likerUserId, likedUserId)).toArray());
+            var now = LocalDateTime.now();
+            boolean[] inserted = likeRepository.insertAllIgnoringConflicts(likerUserId, targets, now);
+
+            List<UUID> newLikes = new ArrayList<>();
+            for (int i = 0; i < targets.size(); i++) {
+                if (inserted[i]) {
+                    newLikes.add(targets.get(i));
+                } else {
+                    results.put(targets.get(i), new BulkLikeItemDTO(targets.get(i), BulkLikeStatus.ALREADY_LIKED, null));
+                }
+            }
+
+            recorded.set(newLikes.size());
+
+            var likedBack = newLikes.isEmpty() ? Set.<UUID>of() : likeRepository.findLikersAmong(likerUserId, newLikes);
+            var matchIds = matchingService.createMatches(likerUserId, likerIsProfessional ? Side.PROFESSIONAL : Side.CLIENT,
+                    newLikes.stream().filter(likedBack::contains).toList());
+            List<LikeInboxEvent> inboxUpdates = new ArrayList<>();
+            for (UUID likedUserId : newLikes) {
+                var matchId = matchIds.get(likedUserId);
+                results.put(likedUserId, new BulkLikeItemDTO(likedUserId,
+                        matchId == null ? BulkLikeStatus.LIKED : BulkLikeStatus.MATCHED, matchId));
+                // A like back leaves the liker's inbox; any other new like waits in the liked user's
+                inboxUpdates.add(likedBack.contains(likedUserId)
+                        ? new LikeInboxEvent(likerUserId, likedUserId, null, false)
+                        : new LikeInboxEvent(likedUserId, likerUserId, now, true));
+            }
+            likeInboxService.publishAfterCommit(inboxUpdates);
+        }
+
+        return new BulkLikeResponseDTO(distinct.stream().map(results::get).toList());
+    }
+}
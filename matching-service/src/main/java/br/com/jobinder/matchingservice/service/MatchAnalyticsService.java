@@ -0,0 +1,215 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.client.IdentityServiceClient;
+import br.com.jobinder.matchingservice.domain.analytics.MatchStat;
+import br.com.jobinder.matchingservice.domain.analytics.MatchStatRepository;
+import br.com.jobinder.matchingservice.domain.match.MatchRepository;
+import br.com.jobinder.matchingservice.dto.MatchAnalyticsBucketDTO;
+import br.com.jobinder.matchingservice.dto.MatchAnalyticsDTO;
+import br.com.jobinder.matchingservice.dto.MatchNotificationEvent;
+import br.com.jobinder.matchingservice.dto.UserSummaryDTO;
+import br.com.jobinder.matchingservice.dto.UserSummaryRequestDTO;
+import br.com.jobinder.matchingservice.infra.analytics.MatchCounters;
+import br.com.jobinder.matchingservice.infra.analytics.MatchDimension;
+import br.com.jobinder.matchingservice.infra.analytics.MatchGranularity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Matches per hour, specialty and city for dashboards, counted in memory as matches are broadcast and
+// checkpointed to match_stats. Every replica counts every match, so checkpoints merge by taking the maximum
+@Service
+public class MatchAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchAnalyticsService.class);
+
+    // Identity-service accepts up to 100 users per summary call
+    private static final int SUMMARY_BATCH_SIZE = 100;
+
+    @Autowired
+    private MatchStatRepository matchStatRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private IdentityServiceClient identityServiceClient;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${analytics.max-unresolved:100000}")
+    private int maxUnresolved;
+
+    @Value("${analytics.profile-cache.max-size:50000}")
+    private long profileCacheMaxSize;
+
+    @Value("${analytics.profile-cache.ttl-minutes:60}")
+    private long profileCacheTtlMinutes;
+
+    private final MatchCounters counters = new MatchCounters();
+
+    // Matches still waiting for their professional's specialty and city
+    private final Queue<MatchNotificationEvent> unresolved = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger unresolvedCount = new AtomicInteger();
+
+    private Cache<UUID, UserSummaryDTO> professionals;
+
+    @PostConstruct
+    void initCache() {
+        professionals = Caffeine.newBuilder()
+                .maximumSize(profileCacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(profileCacheTtlMinutes))
+                .build();
+    }
+
+    // Only a counter increment and a queue offer on the notification path; breakdowns are resolved in the background
+    @EventListener
+    public void onMatchCreated(MatchNotificationEvent event) {
+        counters.increment(event.createdAt(), MatchDimension.ALL, "");
+        if (unresolvedCount.incrementAndGet() > maxUnresolved) {
+            unresolvedCount.decrementAndGet();
+            log.warn("Match analytics backlog is full, match {} is counted without breakdown", event.matchId());
+            return;
+        }
+        unresolved.offer(event);
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.resolve-interval-ms:5000}")
+    public void resolveBreakdowns() {
+        List<MatchNotificationEvent> events = new ArrayList<>();
+        MatchNotificationEvent next;
+        while ((next = unresolved.poll()) != null) {
+            unresolvedCount.decrementAndGet();
+            events.add(next);
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        var missing = events.stream()
+                .map(MatchNotificationEvent::professionalUserId)
+                .distinct()
+                .filter(id -> professionals.getIfPresent(id) == null)
+                .toList();
+        try {
+            for (int from = 0; from < missing.size(); from += SUMMARY_BATCH_SIZE) {
+                var batch = missing.subList(from, Math.min(from + SUMMARY_BATCH_SIZE, missing.size()));
+                identityServiceClient.findUserSummaries(new UserSummaryRequestDTO(batch))
+                        .forEach(summary -> professionals.put(summary.userId(), summary));
+            }
+        } catch (FeignException e) {
+            // Put back for the next run; the ALL counters are already up to date
+            events.forEach(event -> {
+                unresolvedCount.incrementAndGet();
+                unresolved.offer(event);
+            });
+            log.warn("Could not resolve match analytics breakdowns, will retry: {}", e.getMessage());
+            return;
+        }
+
+        for (var event : events) {
+            // Deleted professionals are missing from the summaries and only count towards ALL
+            var professional = professionals.getIfPresent(event.professionalUserId());
+            if (professional == null) {
+                continue;
+            }
+            if (professional.specialtyName() != null) {
+                counters.increment(event.createdAt(), MatchDimension.SPECIALTY, professional.specialtyName());
+            }
+            if (professional.locationCity() != null) {
+                counters.increment(event.createdAt(), MatchDimension.CITY, professional.locationCity() + "/" + professional.locationState());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        var keys = counters.drainDirty();
+        if (keys.isEmpty()) {
+            return;
+        }
+        var stats = keys.stream()
+                .map(key -> new MatchStat(key.hourStart(), key.dimension(), key.value(), counters.get(key)))
+                .toList();
+        try {
+            var stored = transactionTemplate.execute(status -> matchStatRepository.mergeMax(stats));
+            // Counts from replicas that saw matches this one missed
+            stored.forEach(stat -> counters.mergeMax(stat.getHourStart(), stat.getDimension(), stat.getDimensionValue(), stat.getMatches()));
+        } catch (Exception e) {
+            counters.markDirty(keys);
+            log.warn("Could not checkpoint {} match counters, will retry: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    // Seeds the ALL counters from the matches table the first time, when there are no checkpoints yet
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var since = retentionStart();
+        try {
+            var stats = matchStatRepository.findAllByHourStartGreaterThanEqual(since);
+            stats.forEach(stat -> counters.mergeMax(stat.getHourStart(), stat.getDimension(), stat.getDimensionValue(), stat.getMatches()));
+            if (stats.isEmpty()) {
+                List<MatchCounters.Key> seeded = new ArrayList<>();
+                matchRepository.countByHourSince(since).forEach(hour -> {
+                    counters.mergeMax(hour.getHourStart(), MatchDimension.ALL, "", hour.getMatches());
+                    seeded.add(new MatchCounters.Key(hour.getHourStart(), MatchDimension.ALL, ""));
+                });
+                counters.markDirty(seeded);
+            }
+            log.info("Match analytics loaded with {} checkpointed counters", stats.size());
+        } catch (Exception e) {
+            log.warn("Could not load match analytics: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${analytics.cleanup-cron:0 20 4 * * *}")
+    public void deleteExpired() {
+        var cutoff = retentionStart();
+        counters.pruneBefore(cutoff);
+        Integer deleted = transactionTemplate.execute(status -> matchStatRepository.deleteByHourStartBefore(cutoff));
+        log.info("Deleted {} expired match counters", deleted);
+    }
+
+    public MatchAnalyticsDTO getAnalytics(MatchGranularity granularity, MatchDimension dimension, LocalDateTime from, LocalDateTime to) {
+        var end = to == null ? LocalDateTime.now() : to;
+        var start = from == null ? end.minusDays(7) : from;
+        List<MatchAnalyticsBucketDTO> buckets = new ArrayList<>();
+        counters.aggregate(start, end, granularity, dimension).forEach((bucketStart, values) ->
+                values.forEach((value, matches) ->
+                        buckets.add(new MatchAnalyticsBucketDTO(bucketStart, value.isEmpty() ? null : value, matches))));
+        return new MatchAnalyticsDTO(granularity, dimension, start, end, buckets);
+    }
+
+    private LocalDateTime retentionStart() {
+        return MatchGranularity.DAY.truncate(LocalDateTime.now().minusDays(retentionDays));
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.client.IdentityServiceClient;
+import br.com.jobinder.matchingservice.dto.EnrichedMatchDTO;
+import br.com.jobinder.matchingservice.dto.EnrichedMatchPageDTO;
+import br.com.jobinder.matchingservice.dto.MatchPageDTO;
+import br.com.jobinder.matchingservice.dto.MatchSummaryDTO;
+import br.com.jobinder.matchingservice.dto.UserSummaryDTO;
+import br.com.jobinder.matchingservice.dto.UserSummaryRequestDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Joins a page of matches with the counterparts' names and photos, so the app draws the list from one request
+@Service
+public class MatchEnrichmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchEnrichmentService.class);
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private IdentityServiceClient identityServiceClient;
+
+    @Autowired
+    private ThreadPoolTaskExecutor enrichmentExecutor;
+
+    @Value("${enrichment.batch-size:25}")
+    private int batchSize;
+
+    @Value("${enrichment.deadline-ms:800}")
+    private long deadlineMillis;
+
+    public EnrichedMatchPageDTO findEnrichedMatchesByClientId(UUID clientUserId, String cursor, int size) {
+        return enrich(matchingService.findMatchesByClientId(clientUserId, cursor, size));
+    }
+
+    public EnrichedMatchPageDTO findEnrichedMatchesByProfessionalId(UUID professionalUserId, String cursor, int size) {
+        return enrich(matchingService.findMatchesByProfessionalId(professionalUserId, cursor, size));
+    }
+
+    private EnrichedMatchPageDTO enrich(MatchPageDTO page) {
+        var counterpartIds = new ArrayList<>(new LinkedHashSet<>(page.matches().stream().map(MatchSummaryDTO::counterpartUserId).toList()));
+        Map<UUID, UserSummaryDTO> summaries = new HashMap<>();
+        boolean complete = fetchSummaries(counterpartIds, summaries);
+
+        List<EnrichedMatchDTO> matches = new ArrayList<>(page.matches().size());
+        for (var match : page.matches()) {
+            var summary = summaries.get(match.counterpartUserId());
+            matches.add(new EnrichedMatchDTO(
+                    match.matchId(),
+                    match.counterpartUserId(),
+                    match.createdAt(),
+                    summary == null ? null : summary.displayName(),
+                    summary == null ? null : summary.specialtyName(),
+                    summary == null ? null : summary.serviceThumbnailUrl()
+            ));
+        }
+        return new EnrichedMatchPageDTO(matches, page.nextCursor(), !complete);
+    }
+
+    // One call per batch, all in flight at once, under a single deadline for the whole page.
+    // Whatever has not arrived by then is left out; returns false if anything was
+    private boolean fetchSummaries(List<UUID> userIds, Map<UUID, UserSummaryDTO> into) {
+        if (userIds.isEmpty()) {
+            return true;
+        }
+        List<CompletableFuture<List<UserSummaryDTO>>> calls = new ArrayList<>();
+        boolean complete = true;
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            var batch = List.copyOf(userIds.subList(from, Math.min(userIds.size(), from + batchSize)));
+            try {
+                calls.add(CompletableFuture.supplyAsync(
+                        () -> identityServiceClient.findUserSummaries(new UserSummaryRequestDTO(batch)), enrichmentExecutor));
+            } catch (TaskRejectedException e) {
+                complete = false;
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        for (var call : calls) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                for (var summary : call.get(remaining, TimeUnit.NANOSECONDS)) {
+                    into.put(summary.userId(), summary);
+                }
+            } catch (TimeoutException e) {
+                call.cancel(false);
+                complete = false;
+            } catch (ExecutionException e) {
+                log.warn("Profile summary batch failed: {}", e.getCause().getMessage());
+                complete = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        if (!complete) {
+            log.debug("Served a match page with {} of {} counterpart summaries", into.size(), userIds.size());
+        }
+        return complete;
+    }
+}
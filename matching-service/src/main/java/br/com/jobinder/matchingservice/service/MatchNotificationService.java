@@ -0,0 +1,230 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.domain.match.MatchRepository;
+import br.com.jobinder.matchingservice.dto.MatchNotificationEvent;
+import br.com.jobinder.matchingservice.dto.MatchSummaryDTO;
+import br.com.jobinder.matchingservice.infra.exception.StreamLimitExceededException;
+import br.com.jobinder.matchingservice.infra.notification.MatchStream;
+import br.com.jobinder.matchingservice.infra.pagination.MatchCursor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Pushes new matches to open SSE streams. Matches committed on any replica reach every replica over a
+// fanout exchange; a reconnecting client replays what it missed from the database via Last-Event-ID
+@Service
+public class MatchNotificationService {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchNotificationService.class);
+
+    // Same order as Postgres compares (created_at, id), so event IDs line up with the replay query
+    private static final Comparator<MatchSummaryDTO> OLDEST_FIRST = Comparator
+            .comparing(MatchSummaryDTO::createdAt)
+            .thenComparing(MatchSummaryDTO::matchId, (a, b) -> {
+                int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+                return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+            });
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ThreadPoolTaskExecutor notificationExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${rabbitmq.exchanges.match-notifications}")
+    private String notificationExchange;
+
+    @Value("${notifications.stream-timeout-ms:1800000}")
+    private long streamTimeoutMillis;
+
+    @Value("${notifications.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${notifications.max-streams:20000}")
+    private int maxStreams;
+
+    @Value("${notifications.max-streams-per-user:5}")
+    private int maxStreamsPerUser;
+
+    @Value("${notifications.replay-limit:100}")
+    private int replayLimit;
+
+    @Value("${notifications.replay-overlap-ms:5000}")
+    private long replayOverlapMillis;
+
+    private final Map<UUID, Set<MatchStream>> streamsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("match.streams.open", openStreams, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UUID userId, String lastEventId) {
+        // Parsed up front, so a bad ID is a 400 instead of a broken stream
+        var resumeFrom = lastEventId == null || lastEventId.isBlank() ? null : MatchCursor.decode(lastEventId);
+
+        if (openStreams.incrementAndGet() > maxStreams) {
+            openStreams.decrementAndGet();
+            throw new StreamLimitExceededException("This node cannot accept more match streams, retry shortly.");
+        }
+
+        var emitter = new SseEmitter(streamTimeoutMillis);
+        var stream = new MatchStream(userId, emitter, bufferSize, notificationExecutor);
+        // Registered before the replay query, so nothing committed in between is missed; duplicates are
+        // harmless because the client keys matches by ID
+        try {
+            streamsByUser.compute(userId, (id, streams) -> {
+                var userStreams = streams == null ? ConcurrentHashMap.<MatchStream>newKeySet() : streams;
+                if (userStreams.size() >= maxStreamsPerUser) {
+                    throw new StreamLimitExceededException("Too many open match streams for this user.");
+                }
+                userStreams.add(stream);
+                return userStreams;
+            });
+        } catch (StreamLimitExceededException e) {
+            openStreams.decrementAndGet();
+            throw e;
+        }
+        Runnable cleanup = () -> unregister(stream);
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(error -> cleanup.run());
+
+        stream.enqueue(SseEmitter.event().comment("connected"));
+        if (resumeFrom != null) {
+            try {
+                replay(stream, resumeFrom);
+            } catch (RuntimeException e) {
+                log.warn("Could not replay missed matches for {}: {}", userId, e.getMessage());
+                unregister(stream);
+                emitter.completeWithError(e);
+            }
+        }
+        return emitter;
+    }
+
+    // Re-reads a window behind the cursor: matches commit out of created_at order, so one stamped just before
+    // the last delivered event may have become visible only after it. The client drops the duplicates by match ID.
+    // Runs on the primary, a lagging replica would not have the matches the stream just missed
+    private void replay(MatchStream stream, MatchCursor after) {
+        var since = after.createdAt().minus(Duration.ofMillis(replayOverlapMillis));
+        var limit = Limit.of(replayLimit + 1);
+        List<MatchSummaryDTO> missed = transactionTemplate.execute(status -> {
+            List<MatchSummaryDTO> rows = new ArrayList<>();
+            rows.addAll(matchRepository.findSinceByClient(stream.getUserId(), since, limit));
+            rows.addAll(matchRepository.findSinceByProfessional(stream.getUserId(), since, limit));
+            return rows;
+        });
+        if (missed.size() > replayLimit) {
+            stream.enqueue(SseEmitter.event().name("resync").data("Missed events, reload the match list."));
+            return;
+        }
+        missed.sort(OLDEST_FIRST);
+        missed.forEach(match -> stream.enqueue(toEvent(match)));
+    }
+
+    private void unregister(MatchStream stream) {
+        if (!stream.close()) {
+            return;
+        }
+        openStreams.decrementAndGet();
+        streamsByUser.computeIfPresent(stream.getUserId(), (id, streams) -> {
+            streams.remove(stream);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    // Broadcasts once the current transaction commits, so streams never see a match that rolled back
+    public void publishAfterCommit(Collection<MatchNotificationEvent> events) {
+        var pending = List.copyOf(events);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(pending);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(pending);
+            }
+        });
+    }
+
+    private void broadcast(List<MatchNotificationEvent> events) {
+        for (var event : events) {
+            try {
+                rabbitTemplate.convertAndSend(notificationExchange, "", event);
+            } catch (AmqpException e) {
+                // Other replicas' clients pick the match up when they resume or reload
+                log.warn("Could not broadcast match {}: {}", event.matchId(), e.getMessage());
+                eventPublisher.publishEvent(event);
+            }
+        }
+    }
+
+    // Called for every broadcast match, including the ones committed on this replica
+    @EventListener
+    public void deliver(MatchNotificationEvent event) {
+        send(event.clientUserId(), new MatchSummaryDTO(event.matchId(), event.professionalUserId(), event.createdAt()));
+        send(event.professionalUserId(), new MatchSummaryDTO(event.matchId(), event.clientUserId(), event.createdAt()));
+    }
+
+    private void send(UUID userId, MatchSummaryDTO match) {
+        var streams = streamsByUser.get(userId);
+        if (streams != null) {
+            streams.forEach(stream -> stream.enqueue(toEvent(match)));
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(MatchSummaryDTO match) {
+        return SseEmitter.event()
+                .id(new MatchCursor(match.createdAt(), match.matchId()).encode())
+                .name("match")
+                .data(match);
+    }
+
+    // Keeps idle connections alive through proxies and surfaces dead ones, whose sends then fail
+    @Scheduled(fixedRateString = "${notifications.heartbeat-ms:20000}")
+    public void heartbeat() {
+        streamsByUser.values().forEach(streams -> streams.forEach(stream -> stream.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+}
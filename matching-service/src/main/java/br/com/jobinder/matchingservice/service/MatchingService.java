@@ -1,22 +1,38 @@
 package br.com.jobinder.matchingservice.service;
 
 import br.com.jobinder.matchingservice.client.IdentityServiceClient;
+import br.com.jobinder.matchingservice.domain.like.LikeRepository;
+import br.com.jobinder.matchingservice.domain.match.ArchivedMatchRepository;
 import br.com.jobinder.matchingservice.domain.match.Match;
 import br.com.jobinder.matchingservice.domain.match.MatchRepository;
-import br.com.jobinder.matchingservice.dto.MatchCreateDTO;
+import br.com.jobinder.matchingservice.domain.outbox.OutboxEventType;
 import br.com.jobinder.matchingservice.dto.MatchCreatedEvent;
+import br.com.jobinder.matchingservice.dto.MatchNotificationEvent;
+import br.com.jobinder.matchingservice.dto.MatchPageDTO;
 import br.com.jobinder.matchingservice.dto.MatchResponseDTO;
+import br.com.jobinder.matchingservice.dto.MatchSummaryDTO;
+import br.com.jobinder.matchingservice.infra.bloom.MatchPairFilter;
+import br.com.jobinder.matchingservice.infra.cache.MatchListCache;
+import br.com.jobinder.matchingservice.infra.cache.MatchListCache.Side;
 import br.com.jobinder.matchingservice.infra.exception.MatchAlreadyExistsException;
 import br.com.jobinder.matchingservice.infra.exception.MatchNotFoundException;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import br.com.jobinder.matchingservice.infra.pagination.MatchCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.IntSupplier;
 
 @Service
 public class MatchingService {
@@ -24,55 +40,212 @@ public class MatchingService {
     @Autowired
     private MatchRepository matchRepository;
 
+    @Autowired
+    private ArchivedMatchRepository archivedMatchRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
     @Autowired
     private IdentityServiceClient identityServiceClient;
 
     @Autowired
-    private RabbitTemplate rabbitTemplate;
+    private OutboxService outboxService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
-    @Value("${rabbitmq.queues.match-created}")
-    private String matchCreatedQueue;
+    @Autowired
+    private MatchPairFilter matchPairFilter;
 
-    @Transactional
-    public MatchResponseDTO createMatch(UUID clientUserId, MatchCreateDTO createDto) {
-        var professionalUserId = createDto.professionalUserId();
+    @Autowired
+    private MatchListCache matchListCache;
+
+    @Autowired
+    private MatchNotificationService matchNotificationService;
+
+    @Value("${matches.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${purge.batch-size:1000}")
+    private int purgeBatchSize;
 
-        // Check if a match already exists between the client and professional
-        if (matchRepository.existsByClientUserIdAndProfessionalUserId(clientUserId, professionalUserId)) {
+    // Called by LikeService once both users liked each other
+    @Transactional
+    public UUID createMatch(UUID clientUserId, UUID professionalUserId) {
+        // Pairs the filter has never seen go straight to the insert. Positives may be false,
+        // so they are confirmed with a read before rejecting, which keeps repeat swipes off the write path
+        if (matchPairFilter.mightContain(clientUserId, professionalUserId)
+                && matchRepository.existsByClientUserIdAndProfessionalUserId(clientUserId, professionalUserId)) {
             throw new MatchAlreadyExistsException("A connection between these users already exists.");
         }
 
-        // Create and save the match using between client and professional user IDs
-        var match = new Match(null, clientUserId, professionalUserId, null);
-        var savedMatch = matchRepository.save(match);
+        // Insert-if-absent under the pair lock is the real duplicate check, so concurrent swipes cannot race into a 500.
+        // Taken here so every caller holds it; the lock is reentrant within LikeService's transaction
+        likeRepository.lockPair(LikeRepository.pairKey(clientUserId, professionalUserId));
+        // Truncated to what Postgres stores, so SSE event IDs built from it match the replay query
+        var createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        var matchId = matchRepository.insertIfAbsent(UUID.randomUUID(), clientUserId, professionalUserId, createdAt)
+                .orElseThrow(() -> new MatchAlreadyExistsException("A connection between these users already exists."));
+        matchPairFilter.put(clientUserId, professionalUserId);
+
+        // Published by OutboxRelay once this transaction commits, to enable chat
+        outboxService.record(OutboxEventType.MATCH_CREATED, matchId, new MatchCreatedEvent(matchId, clientUserId, professionalUserId));
+        matchListCache.invalidate(List.of(clientUserId, professionalUserId));
+        matchNotificationService.publishAfterCommit(List.of(new MatchNotificationEvent(matchId, clientUserId, professionalUserId, createdAt)));
+
+        return matchId;
+    }
 
-        // Publish event to RabbitMQ to enable chat
-        var event = new MatchCreatedEvent(savedMatch.getId(), clientUserId, savedMatch.getProfessionalUserId());
-        rabbitTemplate.convertAndSend(matchCreatedQueue, event);
+    // Bulk variant for replayed swipes: one JDBC batch for the matches and one for their outbox events.
+    // side is the user's own; every counterpart has the other one. Returns the new match ID of each
+    // counterpart; pairs that already had a match are left out
+    @Transactional
+    public Map<UUID, UUID> createMatches(UUID userId, Side side, Collection<UUID> counterpartUserIds) {
+        if (counterpartUserIds.isEmpty()) {
+            return Map.of();
+        }
+        likeRepository.lockPairs(counterpartUserIds.stream()
+                .mapToLong(counterpartUserId -> LikeRepository.pairKey(userId, counterpartUserId)).toArray());
+        var now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<UUID> counterparts = List.copyOf(counterpartUserIds);
+        var matches = counterparts.stream()
+                .map(counterpartUserId -> side == Side.CLIENT
+                        ? new Match(UUID.randomUUID(), userId, counterpartUserId, now)
+                        : new Match(UUID.randomUUID(), counterpartUserId, userId, now))
+                .toList();
+        boolean[] inserted = matchRepository.insertAllIgnoringConflicts(matches);
+
+        Map<UUID, UUID> created = new LinkedHashMap<>();
+        List<MatchCreatedEvent> events = new ArrayList<>();
+        List<MatchNotificationEvent> notifications = new ArrayList<>();
+        for (int i = 0; i < matches.size(); i++) {
+            if (!inserted[i]) {
+                continue;
+            }
+            var match = matches.get(i);
+            matchPairFilter.put(match.getClientUserId(), match.getProfessionalUserId());
+            created.put(counterparts.get(i), match.getId());
+            events.add(new MatchCreatedEvent(match.getId(), match.getClientUserId(), match.getProfessionalUserId()));
+            notifications.add(new MatchNotificationEvent(match.getId(), match.getClientUserId(), match.getProfessionalUserId(), now));
+        }
+        if (created.isEmpty()) {
+            return created;
+        }
 
-        return new MatchResponseDTO(savedMatch.getId(), "Match created successfully and chat enabled.");
+        outboxService.recordAll(OutboxEventType.MATCH_CREATED, events, MatchCreatedEvent::matchId);
+        var affectedUserIds = new ArrayList<>(created.keySet());
+        affectedUserIds.add(userId);
+        matchListCache.invalidate(affectedUserIds);
+        matchNotificationService.publishAfterCommit(notifications);
+        return created;
     }
 
+    @Transactional(readOnly = true)
     public MatchResponseDTO findMatchById(UUID matchId) {
         return matchRepository.findById(matchId)
                 .map(match -> new MatchResponseDTO(match.getId(), "Match details found."))
+                .or(() -> archivedMatchRepository.findById(matchId)
+                        .map(match -> new MatchResponseDTO(match.getId(), "Match details found (archived).")))
                 .orElseThrow(() -> new MatchNotFoundException("Match not found with ID: " + matchId));
     }
 
-    public List<MatchResponseDTO> findMatchesByClientId(UUID clientUserId) {
-        return matchRepository.findAllByClientUserId(clientUserId)
-                .stream()
-                .map(match -> new MatchResponseDTO(match.getId(), "Match with professional " + match.getProfessionalUserId()))
-                .collect(Collectors.toList());
+    // No transaction of its own: cursor pages read from a replica, the cached first page from the primary
+    public MatchPageDTO findMatchesByClientId(UUID clientUserId, String cursor, int size) {
+        PageQuery hot = (after, limit) -> after == null
+                ? matchRepository.findFirstPageByClient(clientUserId, limit)
+                : matchRepository.findPageByClientAfter(clientUserId, after.createdAt(), after.id(), limit);
+        PageQuery archived = (after, limit) -> after == null
+                ? archivedMatchRepository.findFirstPageByClient(clientUserId, limit)
+                : archivedMatchRepository.findPageByClientAfter(clientUserId, after.createdAt(), after.id(), limit);
+        return findPage(clientUserId, Side.CLIENT, hot, archived, cursor, size);
+    }
+
+    public MatchPageDTO findMatchesByProfessionalId(UUID professionalUserId, String cursor, int size) {
+        PageQuery hot = (after, limit) -> after == null
+                ? matchRepository.findFirstPageByProfessional(professionalUserId, limit)
+                : matchRepository.findPageByProfessionalAfter(professionalUserId, after.createdAt(), after.id(), limit);
+        PageQuery archived = (after, limit) -> after == null
+                ? archivedMatchRepository.findFirstPageByProfessional(professionalUserId, limit)
+                : archivedMatchRepository.findPageByProfessionalAfter(professionalUserId, after.createdAt(), after.id(), limit);
+        return findPage(professionalUserId, Side.PROFESSIONAL, hot, archived, cursor, size);
+    }
+
+    // Rows after the cursor, or the newest rows when it is null
+    @FunctionalInterface
+    private interface PageQuery {
+        List<MatchSummaryDTO> fetch(MatchCursor after, Limit limit);
+    }
+
+    private MatchPageDTO findPage(UUID userId, Side side, PageQuery hot, PageQuery archived, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        if (cursor == null) {
+            // The newest rows are cached at the largest page size, so any first page is a slice of the same entry.
+            // Loaded in a read-write transaction, i.e. from the primary: rows from a lagging replica would be
+            // cached for the whole TTL after the invalidation that was meant to replace them
+            var newest = matchListCache.get(userId, side, id -> transactionTemplate.execute(status ->
+                    readRows(hot, archived, null, maxPageSize + 1)));
+            return toPage(newest.subList(0, Math.min(newest.size(), pageSize + 1)), pageSize);
+        }
+        // One extra row tells whether another page exists without a count query
+        return toPage(readRows(hot, archived, MatchCursor.decode(cursor), pageSize + 1), pageSize);
+    }
+
+    // Archived matches are all older than the partitioned ones, so once the hot rows run out
+    // the same keyset continues into the archive
+    private static List<MatchSummaryDTO> readRows(PageQuery hot, PageQuery archived, MatchCursor after, int count) {
+        var rows = hot.fetch(after, Limit.of(count));
+        if (rows.size() >= count) {
+            return rows;
+        }
+        var last = rows.isEmpty() ? after : new MatchCursor(rows.get(rows.size() - 1).createdAt(), rows.get(rows.size() - 1).matchId());
+        var combined = new ArrayList<>(rows);
+        combined.addAll(archived.fetch(last, Limit.of(count - rows.size())));
+        return combined;
+    }
+
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), maxPageSize);
+    }
+
+    private static MatchPageDTO toPage(List<MatchSummaryDTO> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new MatchPageDTO(rows, null);
+        }
+        var page = rows.subList(0, pageSize);
+        var last = page.get(pageSize - 1);
+        return new MatchPageDTO(List.copyOf(page), new MatchCursor(last.createdAt(), last.matchId()).encode());
+    }
+
+    // Each batch commits on its own, so large accounts never hold one long transaction
+    public int deleteMatchesByUserId(UUID userId) {
+        var affectedUserIds = new ArrayList<>(matchRepository.findCounterpartUserIds(userId));
+        affectedUserIds.addAll(archivedMatchRepository.findCounterpartUserIds(userId));
+        affectedUserIds.add(userId);
+
+        int total = deleteInBatches(() -> matchRepository.deleteBatchByUserId(userId, purgeBatchSize));
+        total += deleteInBatches(() -> archivedMatchRepository.deleteBatchByUserId(userId, purgeBatchSize));
+
+        matchListCache.invalidate(affectedUserIds);
+        return total;
+    }
+
+    // Both directions, so the user neither shows up in anyone's pending likes nor completes a match later
+    public int deleteLikesByUserId(UUID userId) {
+        return deleteInBatches(() -> likeRepository.deleteBatchByUserId(userId, purgeBatchSize));
     }
 
-    public List<MatchResponseDTO> findMatchesByProfessionalId(UUID professionalUserId) {
-        return matchRepository.findAllByProfessionalUserId(professionalUserId)
-                .stream()
-                .map(match -> new MatchResponseDTO(match.getId(), "Match with client " + match.getClientUserId()))
-                .collect(Collectors.toList());
+    private int deleteInBatches(IntSupplier batch) {
+        int total = 0;
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> batch.getAsInt());
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        return total;
     }
 
+    @Transactional(readOnly = true)
     public List<Match> getAllMatchesDTO() {
         return matchRepository.findAll();
     }
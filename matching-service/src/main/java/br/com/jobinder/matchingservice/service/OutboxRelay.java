@@ -0,0 +1,107 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.domain.outbox.OutboxEvent;
+import br.com.jobinder.matchingservice.domain.outbox.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+// Publishes committed outbox rows to RabbitMQ in batches, waiting for broker confirms before marking them sent
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${rabbitmq.queues.match-created}")
+    private String matchCreatedQueue;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void publishPending() {
+        try {
+            // Keep draining while full batches come back
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishNextBatch());
+            } while (published != null && published == batchSize);
+        } catch (Exception e) {
+            // Rows stay pending and are retried on the next run
+            log.warn("Outbox relay failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${outbox.cleanup.cron:0 0 3 * * *}")
+    public void deletePublished() {
+        var cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(cutoff));
+        log.info("Deleted {} published outbox events older than {}", deleted, cutoff);
+    }
+
+    private int publishNextBatch() {
+        var batch = outboxEventRepository.lockNextPendingBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // All sends go through one channel so a single confirm wait covers the whole batch
+        rabbitTemplate.invoke(operations -> {
+            batch.forEach(event -> operations.send("", routingKeyFor(event), toMessage(event)));
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+
+        outboxEventRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+        log.debug("Published {} outbox events", batch.size());
+        return batch.size();
+    }
+
+    // Events go through the default exchange straight to the consumer's queue
+    private String routingKeyFor(OutboxEvent event) {
+        return switch (event.getEventType()) {
+            case MATCH_CREATED -> matchCreatedQueue;
+        };
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                // Consumers use the outbox ID to drop redeliveries
+                .setMessageId(event.getId().toString())
+                .setType(event.getEventType().name())
+                .setTimestamp(Date.from(event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.domain.outbox.OutboxEvent;
+import br.com.jobinder.matchingservice.domain.outbox.OutboxEventRepository;
+import br.com.jobinder.matchingservice.domain.outbox.OutboxEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Must run inside the caller's transaction so the event commits (or rolls back) with the change itself
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType eventType, UUID aggregateId, Object payload) {
+        outboxEventRepository.save(new OutboxEvent(null, eventType, aggregateId, serialize(eventType, payload), null, null));
+    }
+
+    // Saved together, so Hibernate sends them as one JDBC batch
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void recordAll(OutboxEventType eventType, Collection<T> payloads, Function<T, UUID> aggregateId) {
+        outboxEventRepository.saveAll(payloads.stream()
+                .map(payload -> new OutboxEvent(null, eventType, aggregateId.apply(payload), serialize(eventType, payload), null, null))
+                .toList());
+    }
+
+    private String serialize(OutboxEventType eventType, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " event", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.dto.RecommendationDTO;
+import br.com.jobinder.matchingservice.infra.recommendation.CoOccurrenceIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class RecommendationService {
+
+    @Autowired
+    private CoOccurrenceIndex coOccurrenceIndex;
+
+    @Value("${recommendations.max-limit:50}")
+    private int maxLimit;
+
+    // Answered from memory; clients without matches yet get an empty list
+    public List<RecommendationDTO> recommendFor(UUID clientUserId, int limit) {
+        return coOccurrenceIndex.recommend(clientUserId, Math.min(Math.max(limit, 1), maxLimit));
+    }
+}
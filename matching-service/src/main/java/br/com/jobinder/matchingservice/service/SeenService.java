@@ -0,0 +1,260 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.domain.seen.SeenSetRepository;
+import br.com.jobinder.matchingservice.domain.seen.UserOrdinal;
+import br.com.jobinder.matchingservice.domain.seen.UserOrdinalRepository;
+import br.com.jobinder.matchingservice.infra.seen.SeenBitmap;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Tracks which professionals each client has already swiped on. Bitmaps are loaded lazily,
+// kept in a bounded cache and written back in the background, merged with what is stored.
+// Cached bitmaps are refreshed periodically to pick up swipes other replicas have persisted
+@Service
+public class SeenService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeenService.class);
+
+    @Autowired
+    private SeenSetRepository seenSetRepository;
+
+    @Autowired
+    private UserOrdinalRepository userOrdinalRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${seen.cache.max-clients:50000}")
+    private long maxClients;
+
+    @Value("${seen.cache.expire-after-access-minutes:30}")
+    private long expireAfterAccessMinutes;
+
+    @Value("${seen.cache.refresh-after-write-seconds:30}")
+    private long refreshAfterWriteSeconds;
+
+    @Value("${seen.ordinal-cache.max-size:200000}")
+    private long maxOrdinals;
+
+    private LoadingCache<UUID, SeenBitmap> bitmaps;
+
+    // Bitmaps whose write-back on eviction failed. They are no longer in the cache, so they wait here for the
+    // next flush, and a reload of the same client takes their bits over
+    private final Map<UUID, SeenBitmap> failedWriteBacks = new ConcurrentHashMap<>();
+
+    // Ordinals never change once assigned
+    private Cache<UUID, Integer> ordinals;
+
+    // Assigns ordinals in a transaction of its own, so a caller's rollback cannot undo one that is already cached
+    private TransactionTemplate ordinalTransaction;
+
+    @PostConstruct
+    void initCaches() {
+        bitmaps = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .refreshAfterWrite(Duration.ofSeconds(refreshAfterWriteSeconds))
+                // Runs atomically with the eviction, so a reload of the same client waits for the write-back
+                .evictionListener((UUID clientUserId, SeenBitmap bitmap, RemovalCause cause) -> {
+                    if (clientUserId != null && bitmap != null && !flush(clientUserId, bitmap)) {
+                        failedWriteBacks.merge(clientUserId, bitmap, SeenService::absorb);
+                    }
+                })
+                .build(new CacheLoader<>() {
+                    @Override
+                    public SeenBitmap load(UUID clientUserId) {
+                        return SeenService.this.load(clientUserId);
+                    }
+
+                    // Merges the stored set into the cached bitmap instead of replacing it, so swipes
+                    // not written back yet are kept
+                    @Override
+                    public SeenBitmap reload(UUID clientUserId, SeenBitmap cached) {
+                        cached.merge(loadStored(clientUserId));
+                        return cached;
+                    }
+                });
+        ordinals = Caffeine.newBuilder()
+                .maximumSize(maxOrdinals)
+                .build();
+        ordinalTransaction = new TransactionTemplate(transactionManager);
+        ordinalTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void markSeen(UUID clientUserId, UUID profileUserId) {
+        int ordinal = ordinals.get(profileUserId, this::resolveOrdinal);
+        bitmaps.get(clientUserId).add(ordinal);
+    }
+
+    // Only records the swipes once the surrounding transaction commits, so a rolled back like does not
+    // take the profile out of the deck. A failure here is logged: the like itself is already committed
+    public void markSeenAfterCommit(UUID clientUserId, Collection<UUID> profileUserIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            profileUserIds.forEach(profileUserId -> markSeen(clientUserId, profileUserId));
+            return;
+        }
+        List<UUID> snapshot = List.copyOf(profileUserIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    snapshot.forEach(profileUserId -> markSeen(clientUserId, profileUserId));
+                } catch (Exception e) {
+                    log.warn("Could not mark {} profiles as seen for {}: {}", snapshot.size(), clientUserId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    // Needs a read-write transaction of its own, the lookup may insert
+    private int resolveOrdinal(UUID userId) {
+        return ordinalTransaction.execute(status -> userOrdinalRepository.resolveOrdinal(userId)
+                .or(() -> userOrdinalRepository.findOrdinalByUserId(userId))
+                .orElseThrow());
+    }
+
+    public boolean hasSeen(UUID clientUserId, UUID profileUserId) {
+        return filterUnseen(clientUserId, Set.of(profileUserId)).isEmpty();
+    }
+
+    // Keeps the candidates the client has not swiped on yet; one query at most for uncached ordinals
+    public Set<UUID> filterUnseen(UUID clientUserId, Collection<UUID> candidateUserIds) {
+        Map<UUID, Integer> known = new HashMap<>(ordinals.getAllPresent(candidateUserIds));
+        var missing = candidateUserIds.stream().filter(id -> !known.containsKey(id)).collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            for (UserOrdinal ordinal : userOrdinalRepository.findAllByUserIdIn(missing)) {
+                ordinals.put(ordinal.getUserId(), ordinal.getOrdinal());
+                known.put(ordinal.getUserId(), ordinal.getOrdinal());
+            }
+        }
+
+        var bitmap = bitmaps.get(clientUserId);
+        Set<UUID> unseen = new HashSet<>();
+        for (var candidate : candidateUserIds) {
+            // Users without an ordinal were never swiped on by anyone
+            var ordinal = known.get(candidate);
+            if (ordinal == null || !bitmap.contains(ordinal)) {
+                unseen.add(candidate);
+            }
+        }
+        return unseen;
+    }
+
+    // Drops the stored set the user built as a client and their ordinal. The ordinal may stay set in other
+    // clients' bitmaps; identity values are never reused, so it can no longer match anyone
+    public void deleteUser(UUID userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            seenSetRepository.deleteByClientUserId(userId);
+            userOrdinalRepository.deleteByUserId(userId);
+        });
+    }
+
+    // Explicit invalidation is not an eviction, so the cached bitmap is discarded without a write-back
+    public void evictUser(UUID userId) {
+        bitmaps.invalidate(userId);
+        failedWriteBacks.remove(userId);
+        ordinals.invalidate(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${seen.flush-interval-ms:2000}")
+    public void flushDirty() {
+        bitmaps.asMap().forEach((clientUserId, bitmap) -> {
+            if (bitmap.isDirty()) {
+                flush(clientUserId, bitmap);
+            }
+        });
+        failedWriteBacks.forEach((clientUserId, bitmap) -> {
+            if (flush(clientUserId, bitmap)) {
+                failedWriteBacks.remove(clientUserId, bitmap);
+            }
+        });
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flushDirty();
+    }
+
+    private SeenBitmap load(UUID clientUserId) {
+        var loaded = new SeenBitmap(loadStored(clientUserId));
+        var unsaved = failedWriteBacks.remove(clientUserId);
+        if (unsaved != null) {
+            absorb(loaded, unsaved);
+        }
+        return loaded;
+    }
+
+    private RoaringBitmap loadStored(UUID clientUserId) {
+        return seenSetRepository.findById(clientUserId)
+                .map(seenSet -> SeenBitmap.deserialize(seenSet.getBitmap()))
+                .orElseGet(RoaringBitmap::new);
+    }
+
+    // Moves the bits still to be persisted from one bitmap into the other, which then owes their write-back
+    private static SeenBitmap absorb(SeenBitmap target, SeenBitmap unsaved) {
+        var bits = unsaved.takeDirtySnapshot();
+        if (bits != null) {
+            target.merge(bits);
+            target.markDirty();
+        }
+        return target;
+    }
+
+    // Read-merge-write under a row lock, so instances flushing the same client never drop each other's bits.
+    // False when the write-back failed; the bitmap is then dirty again
+    private boolean flush(UUID clientUserId, SeenBitmap bitmap) {
+        var snapshot = bitmap.takeDirtySnapshot();
+        if (snapshot == null) {
+            return true;
+        }
+        try {
+            var merged = transactionTemplate.execute(status -> {
+                seenSetRepository.insertEmptyIfAbsent(clientUserId);
+                var seenSet = seenSetRepository.findForUpdate(clientUserId).orElseThrow();
+                var stored = SeenBitmap.deserialize(seenSet.getBitmap());
+                stored.or(snapshot);
+                seenSet.setBitmap(SeenBitmap.serialize(stored));
+                seenSet.setUpdatedAt(LocalDateTime.now());
+                return stored;
+            });
+            bitmap.merge(merged);
+            return true;
+        } catch (Exception e) {
+            bitmap.markDirty();
+            log.warn("Could not persist seen set for {}, will retry: {}", clientUserId, e.getMessage());
+            return false;
+        }
+    }
+}
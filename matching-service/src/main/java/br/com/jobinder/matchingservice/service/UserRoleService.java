@@ -0,0 +1,64 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.client.IdentityServiceClient;
+import br.com.jobinder.matchingservice.dto.UserSummaryDTO;
+import br.com.jobinder.matchingservice.dto.UserSummaryRequestDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Whether each user is a professional (has a service profile) or a client, as identity-service knows it.
+// Cached per replica; an entry is dropped when the user's profile changes or the user is deleted
+@Service
+public class UserRoleService {
+
+    // Identity-service accepts up to 100 users per summary call
+    private static final int SUMMARY_BATCH_SIZE = 100;
+
+    @Autowired
+    private IdentityServiceClient identityServiceClient;
+
+    @Value("${roles.cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${roles.cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private Cache<UUID, Boolean> professionals;
+
+    @PostConstruct
+    void initCache() {
+        professionals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    // True for professionals, false for clients; deleted and unknown users are missing from the result
+    public Map<UUID, Boolean> findProfessionalFlags(Collection<UUID> userIds) {
+        Map<UUID, Boolean> flags = new HashMap<>(professionals.getAllPresent(userIds));
+        var missing = userIds.stream().distinct().filter(id -> !flags.containsKey(id)).toList();
+        for (int from = 0; from < missing.size(); from += SUMMARY_BATCH_SIZE) {
+            List<UUID> batch = missing.subList(from, Math.min(from + SUMMARY_BATCH_SIZE, missing.size()));
+            for (UserSummaryDTO summary : identityServiceClient.findUserSummaries(new UserSummaryRequestDTO(batch))) {
+                professionals.put(summary.userId(), summary.professional());
+                flags.put(summary.userId(), summary.professional());
+            }
+        }
+        return flags;
+    }
+
+    public void evict(UUID userId) {
+        professionals.invalidate(userId);
+    }
+}
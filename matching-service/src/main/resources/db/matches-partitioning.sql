@@ -0,0 +1,50 @@
+-- Runs before Hibernate on every start (spring.sql.init), so it must stay idempotent.
+-- matches is range-partitioned by month on created_at; MatchPartitionMaintenance creates the
+-- monthly partitions and moves expired ones to matches_archive. Statements end with @@.
+
+-- One-time migration from the plain table created by ddl-auto: move it aside and free its index names.
+-- Both migration blocks take the same lock, so replicas starting together run them one at a time
+DO $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('matches-partitioning'));
+    IF EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass('matches') AND relkind = 'r') THEN
+        ALTER TABLE matches RENAME TO matches_legacy;
+        ALTER TABLE matches_legacy DROP CONSTRAINT IF EXISTS matches_pkey;
+        DROP INDEX IF EXISTS idx_matches_client_created;
+        DROP INDEX IF EXISTS idx_matches_professional_created;
+        DROP INDEX IF EXISTS idx_matches_professional_user_id;
+    END IF;
+END
+$$@@
+
+-- The partition key has to be part of every unique index, hence the (id, created_at) primary key
+-- and no unique (client, professional) pair: MatchingService inserts under a pair lock instead
+CREATE TABLE IF NOT EXISTS matches (
+    id UUID NOT NULL,
+    client_user_id UUID NOT NULL,
+    professional_user_id UUID NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at)@@
+
+-- Catches rows outside the monthly partitions; maintenance moves them into one when it is created
+CREATE TABLE IF NOT EXISTS matches_default PARTITION OF matches DEFAULT@@
+
+DO $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('matches-partitioning'));
+    IF to_regclass('matches_legacy') IS NOT NULL THEN
+        INSERT INTO matches (id, client_user_id, professional_user_id, created_at)
+        SELECT id, client_user_id, professional_user_id, COALESCE(created_at, now()) FROM matches_legacy;
+        DROP TABLE matches_legacy;
+    END IF;
+END
+$$@@
+
+-- Keyset pagination of listings; the counterpart column makes them index-only scans.
+-- Created on the parent, so every partition gets its own, bounded by the partition's size
+CREATE INDEX IF NOT EXISTS idx_matches_client_created
+    ON matches (client_user_id, created_at, id, professional_user_id)@@
+
+CREATE INDEX IF NOT EXISTS idx_matches_professional_created
+    ON matches (professional_user_id, created_at, id, client_user_id)@@
@@ -0,0 +1,49 @@
+package br.com.jobinder.matchingservice.infra.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchCountersTest {
+
+    private final LocalDateTime day = LocalDateTime.of(2026, 3, 10, 0, 0);
+
+    @Test
+    @DisplayName("Should sum hourly counters into daily buckets for the requested dimension only")
+    void aggregate_ShouldRollHoursUpIntoDays() {
+        var counters = new MatchCounters();
+        counters.increment(day.plusHours(1).plusMinutes(5), MatchDimension.SPECIALTY, "Plumbing");
+        counters.increment(day.plusHours(13), MatchDimension.SPECIALTY, "Plumbing");
+        counters.increment(day.plusHours(13), MatchDimension.SPECIALTY, "Painting");
+        counters.increment(day.plusDays(1), MatchDimension.SPECIALTY, "Plumbing");
+        counters.increment(day.plusHours(2), MatchDimension.ALL, "");
+
+        var daily = counters.aggregate(day, day.plusDays(2), MatchGranularity.DAY, MatchDimension.SPECIALTY);
+        assertThat(daily).containsOnlyKeys(day, day.plusDays(1));
+        assertThat(daily.get(day)).isEqualTo(Map.of("Plumbing", 2L, "Painting", 1L));
+
+        var hourly = counters.aggregate(day, day.plusDays(1), MatchGranularity.HOUR, MatchDimension.SPECIALTY);
+        assertThat(hourly).containsOnlyKeys(day.plusHours(1), day.plusHours(13));
+    }
+
+    @Test
+    @DisplayName("Should checkpoint changed counters once and keep the higher of local and merged counts")
+    void drainDirtyAndMergeMax_ShouldTrackCheckpoints() {
+        var counters = new MatchCounters();
+        counters.increment(day, MatchDimension.ALL, "");
+        counters.increment(day, MatchDimension.ALL, "");
+
+        var keys = counters.drainDirty();
+        assertThat(keys).containsExactly(new MatchCounters.Key(day, MatchDimension.ALL, ""));
+        assertThat(counters.drainDirty()).isEmpty();
+
+        counters.mergeMax(day, MatchDimension.ALL, "", 5);
+        counters.mergeMax(day, MatchDimension.ALL, "", 3);
+        assertThat(counters.get(keys.get(0))).isEqualTo(5);
+        assertThat(counters.drainDirty()).isEmpty();
+    }
+}
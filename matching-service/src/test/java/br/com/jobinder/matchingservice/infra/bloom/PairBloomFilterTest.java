@@ -0,0 +1,56 @@
+package br.com.jobinder.matchingservice.infra.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PairBloomFilterTest {
+
+    @Test
+    @DisplayName("Should always report pairs that were added")
+    void mightContain_ShouldHaveNoFalseNegatives() {
+        var filter = new PairBloomFilter(10_000, 0.01);
+        List<UUID[]> pairs = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            var pair = new UUID[]{UUID.randomUUID(), UUID.randomUUID()};
+            filter.put(pair[0], pair[1]);
+            pairs.add(pair);
+        }
+
+        assertThat(pairs).allMatch(pair -> filter.mightContain(pair[0], pair[1]));
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate close to the configured one")
+    void mightContain_ShouldRespectFalsePositiveRate() {
+        var filter = new PairBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID(), UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID(), UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("Should treat the pair as ordered")
+    void mightContain_ShouldDistinguishDirection() {
+        var filter = new PairBloomFilter(1_000, 0.000001);
+        var client = UUID.randomUUID();
+        var professional = UUID.randomUUID();
+        filter.put(client, professional);
+
+        assertThat(filter.mightContain(client, professional)).isTrue();
+        assertThat(filter.mightContain(professional, client)).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.jobinder.matchingservice.infra.inbox;
+
+import br.com.jobinder.matchingservice.dto.ReceivedLikeDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikerRingTest {
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("Should keep the newest likers in order while counting every pending like")
+    void add_ShouldKeepNewestLikersAndCountAll() {
+        var ring = new LikerRing(3);
+        List<UUID> likers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            var liker = UUID.randomUUID();
+            likers.add(liker);
+            ring.add(liker, now.plusSeconds(i));
+        }
+        ring.add(likers.get(4), now.plusSeconds(10));
+
+        assertThat(ring.pending()).isEqualTo(5);
+        assertThat(ring.newest(10)).extracting(ReceivedLikeDTO::likerUserId)
+                .containsExactly(likers.get(4), likers.get(3), likers.get(2));
+    }
+
+    @Test
+    @DisplayName("Should close the gap left by a removed liker and report when it needs a reload")
+    void remove_ShouldCompactAndFlagShortRing() {
+        var ring = new LikerRing(3);
+        var likers = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        likers.forEach(liker -> ring.add(liker, now));
+
+        ring.remove(likers.get(2));
+        assertThat(ring.pending()).isEqualTo(3);
+        assertThat(ring.newest(10)).extracting(ReceivedLikeDTO::likerUserId)
+                .containsExactly(likers.get(3), likers.get(1));
+        assertThat(ring.isShort()).isTrue();
+
+        ring.reset(3, List.of(new ReceivedLikeDTO(likers.get(3), now), new ReceivedLikeDTO(likers.get(1), now),
+                new ReceivedLikeDTO(likers.get(0), now)));
+        assertThat(ring.isShort()).isFalse();
+
+        var newLiker = UUID.randomUUID();
+        ring.add(newLiker, now);
+        assertThat(ring.newest(2)).extracting(ReceivedLikeDTO::likerUserId).containsExactly(newLiker, likers.get(3));
+        assertThat(ring.pending()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.jobinder.matchingservice.infra.quota;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyCounterTest {
+
+    private static final long DAY = 20_000;
+
+    @Test
+    @DisplayName("Should grant exactly the limit under contention and start over the next day")
+    void tryAcquire_ShouldEnforceLimitAndRollOver() throws InterruptedException {
+        var counter = new DailyCounter();
+        var granted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            pool.execute(() -> {
+                if (counter.tryAcquire(DAY, 1, 100)) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted).hasValue(100);
+        assertThat(counter.used(DAY)).isEqualTo(100);
+        assertThat(counter.tryAcquire(DAY, 1, 100)).isFalse();
+        assertThat(counter.tryAcquire(DAY + 1, 5, 100)).isTrue();
+        assertThat(counter.used(DAY + 1)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should report only unflushed permits and take in counts stored by other replicas")
+    void flushed_ShouldMergeStoredTotal() {
+        var counter = new DailyCounter(DAY, 10);
+        counter.tryAcquire(DAY, 3, 100);
+        assertThat(counter.unflushed(DAY)).isEqualTo(3);
+
+        // Two more likes land here while the store adds our 3 to another replica's 7
+        counter.tryAcquire(DAY, 2, 100);
+        counter.flushed(DAY, 3, 20);
+
+        assertThat(counter.used(DAY)).isEqualTo(22);
+        assertThat(counter.unflushed(DAY)).isEqualTo(2);
+        assertThat(counter.tryAcquire(DAY, 79, 100)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should give refunded permits back and flush them as a negative delta")
+    void release_ShouldReturnPermits() {
+        var counter = new DailyCounter(DAY, 10);
+        counter.tryAcquire(DAY, 3, 100);
+        counter.release(DAY, 5);
+
+        assertThat(counter.used(DAY)).isEqualTo(8);
+        assertThat(counter.unflushed(DAY)).isEqualTo(-2);
+
+        counter.flushed(DAY, -2, 8);
+        assertThat(counter.used(DAY)).isEqualTo(8);
+        assertThat(counter.unflushed(DAY)).isZero();
+
+        // Nothing to give back once the day rolled over
+        counter.release(DAY - 1, 5);
+        assertThat(counter.used(DAY)).isEqualTo(8);
+    }
+}
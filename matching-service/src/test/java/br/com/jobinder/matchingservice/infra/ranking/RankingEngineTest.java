@@ -0,0 +1,47 @@
+package br.com.jobinder.matchingservice.infra.ranking;
+
+import br.com.jobinder.matchingservice.dto.ProfileCardDTO;
+import br.com.jobinder.matchingservice.infra.ranking.feature.ExperienceFeature;
+import br.com.jobinder.matchingservice.infra.ranking.feature.RatingFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingEngineTest {
+
+    @Test
+    @DisplayName("Should rank the same in parallel chunks as on the caller's thread")
+    void topK_ShouldMatchSequentialWhenParallel() {
+        var random = new Random(11);
+        List<ProfileCardDTO> candidates = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            candidates.add(new ProfileCardDTO(UUID.randomUUID(), UUID.randomUUID(), "Pro " + i, null, null, null, null, null,
+                    random.nextInt(2000), random.nextFloat() * 5, null));
+        }
+
+        var sequential = engine(Integer.MAX_VALUE).topK(candidates, RankingContext.neutral(), 100);
+        var parallel = engine(1).topK(candidates, RankingContext.neutral(), 100);
+
+        assertThat(parallel).hasSize(100).containsExactlyElementsOf(sequential);
+    }
+
+    private static RankingEngine engine(int parallelThreshold) {
+        var engine = new RankingEngine();
+        List<FeatureExtractor> extractors = List.of(new RatingFeature(), new ExperienceFeature());
+        double[] weights = extractors.stream().mapToDouble(FeatureExtractor::defaultWeight).toArray();
+        ReflectionTestUtils.setField(engine, "extractors", extractors);
+        ReflectionTestUtils.setField(engine, "scoringFunction", (ScoringFunction) (columns, features, scores, from, to) ->
+                ScoringKernel.weightedSum(features, weights, scores, from, to));
+        ReflectionTestUtils.setField(engine, "parallelThreshold", parallelThreshold);
+        // Uneven on purpose, so the last chunk is a partial one
+        ReflectionTestUtils.setField(engine, "chunkSize", 777);
+        return engine;
+    }
+}
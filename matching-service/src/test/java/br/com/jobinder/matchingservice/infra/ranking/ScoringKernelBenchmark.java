@@ -0,0 +1,79 @@
+package br.com.jobinder.matchingservice.infra.ranking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Run main() on the test classpath; JMH sources are generated by the annotation processor at test-compile
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringKernelBenchmark {
+
+    private static final int FEATURES = 5;
+    private static final int CHUNK_SIZE = 1024;
+    private static final int TOP_K = 100;
+
+    @Param({"1000", "10000", "100000"})
+    private int candidates;
+
+    private double[][] features;
+    private double[] weights;
+    private double[] scores;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        features = new double[FEATURES][candidates];
+        for (double[] column : features) {
+            for (int i = 0; i < candidates; i++) {
+                column[i] = random.nextDouble();
+            }
+        }
+        weights = new double[]{3.0, 2.0, 1.5, 1.0, 0.5};
+        scores = new double[candidates];
+    }
+
+    @Benchmark
+    public double[] weightedSum() {
+        ScoringKernel.weightedSum(features, weights, scores, 0, candidates);
+        return scores;
+    }
+
+    @Benchmark
+    public double[] weightedSumParallel() {
+        int chunks = (candidates + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                ScoringKernel.weightedSum(features, weights, scores, c * CHUNK_SIZE, Math.min(candidates, (c + 1) * CHUNK_SIZE)));
+        return scores;
+    }
+
+    @Benchmark
+    public void weightedSumAndTopK(Blackhole blackhole) {
+        ScoringKernel.weightedSum(features, weights, scores, 0, candidates);
+        blackhole.consume(ScoringKernel.topK(scores, candidates, TOP_K));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ScoringKernelBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.jobinder.matchingservice.infra.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoringKernelTest {
+
+    @Test
+    @DisplayName("Should compute the weighted sum of the feature columns")
+    void weightedSum_ShouldCombineColumns() {
+        double[][] features = {{1, 0, 0.5}, {0, 1, 0.5}};
+        double[] scores = new double[3];
+
+        ScoringKernel.weightedSum(features, new double[]{2, 1}, scores, 0, 3);
+
+        assertThat(scores).containsExactly(2, 1, 1.5);
+    }
+
+    @Test
+    @DisplayName("Should return the best K indices in descending score order")
+    void topK_ShouldMatchFullSort() {
+        var random = new Random(7);
+        double[] scores = new double[5000];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextDouble();
+        }
+
+        int[] expected = IntStream.range(0, scores.length).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+                .limit(50)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        assertThat(ScoringKernel.topK(scores, scores.length, 50)).containsExactly(expected);
+    }
+
+    @Test
+    @DisplayName("Should return every candidate when K exceeds the candidate count")
+    void topK_ShouldHandleSmallInputs() {
+        assertThat(ScoringKernel.topK(new double[]{0.1, 0.9, 0.5}, 3, 10)).containsExactly(1, 2, 0);
+        assertThat(ScoringKernel.topK(new double[0], 0, 10)).isEmpty();
+        assertThat(ScoringKernel.topK(new double[]{1}, 1, 0)).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.jobinder.matchingservice.infra.recommendation;
+
+import br.com.jobinder.matchingservice.dto.RecommendationDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoOccurrenceGraphTest {
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+    private final UUID plumber = UUID.randomUUID();
+    private final UUID electrician = UUID.randomUUID();
+    private final UUID painter = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should recommend professionals matched by clients who share a match, excluding the caller's own")
+    void recommend_ShouldRankCoOccurringProfessionals() {
+        var graph = new CoOccurrenceGraph();
+        graph.add(alice, plumber);
+        graph.add(bob, plumber);
+        graph.add(bob, electrician);
+        graph.add(carol, plumber);
+        graph.add(carol, electrician);
+        graph.add(carol, painter);
+
+        var recommendations = graph.recommend(alice, 50, 10);
+
+        assertThat(recommendations).extracting(RecommendationDTO::professionalUserId)
+                .containsExactly(electrician, painter);
+        assertThat(graph.recommend(carol, 50, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore repeated pairs and forget deleted users on either side")
+    void addAndRemove_ShouldKeepCountsConsistent() {
+        var graph = new CoOccurrenceGraph();
+        graph.add(alice, plumber);
+        graph.add(bob, plumber);
+        graph.add(bob, electrician);
+        graph.add(bob, electrician);
+
+        assertThat(graph.edgeCount()).isEqualTo(3);
+        assertThat(graph.recommend(alice, 50, 10)).singleElement()
+                .satisfies(recommendation -> assertThat(recommendation.score()).isEqualTo(1.0));
+
+        graph.removeUser(bob);
+        assertThat(graph.recommend(alice, 50, 10)).isEmpty();
+
+        graph.add(carol, plumber);
+        graph.add(carol, painter);
+        graph.removeUser(painter);
+        assertThat(graph.recommend(alice, 50, 10)).isEmpty();
+        assertThat(graph.edgeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep seeding from the most recent matches after an older one is removed")
+    void removeUser_ShouldKeepMatchOrder() {
+        var carpenter = UUID.randomUUID();
+        var gardener = UUID.randomUUID();
+        var graph = new CoOccurrenceGraph();
+        graph.add(alice, plumber);
+        graph.add(alice, electrician);
+        graph.add(alice, painter);
+        graph.add(bob, painter);
+        graph.add(bob, carpenter);
+        graph.add(carol, electrician);
+        graph.add(carol, gardener);
+
+        graph.removeUser(plumber);
+
+        assertThat(graph.recommend(alice, 1, 10)).extracting(RecommendationDTO::professionalUserId)
+                .containsExactly(carpenter);
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.jobinder.matchingservice.service;
+
+import br.com.jobinder.matchingservice.domain.like.LikeOutcome;
+import br.com.jobinder.matchingservice.domain.like.LikeRepository;
+import br.com.jobinder.matchingservice.dto.BulkLikeStatus;
+import br.com.jobinder.matchingservice.infra.cache.MatchListCache.Side;
+import br.com.jobinder.matchingservice.infra.exception.InvalidLikeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LikeServiceTest {
+
+    private final LikeRepository likeRepository = mock(LikeRepository.class);
+    private final MatchingService matchingService = mock(MatchingService.class);
+    private final SeenService seenService = mock(SeenService.class);
+    private final UserRoleService userRoleService = mock(UserRoleService.class);
+    private final LikeService likeService = new LikeService();
+
+    private final UUID client = UUID.randomUUID();
+    private final UUID professional = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(likeService, "likeRepository", likeRepository);
+        ReflectionTestUtils.setField(likeService, "matchingService", matchingService);
+        ReflectionTestUtils.setField(likeService, "seenService", seenService);
+        ReflectionTestUtils.setField(likeService, "likeInboxService", mock(LikeInboxService.class));
+        ReflectionTestUtils.setField(likeService, "likeQuotaService", mock(LikeQuotaService.class));
+        ReflectionTestUtils.setField(likeService, "userRoleService", userRoleService);
+        // Stands in for the @Transactional proxy, which lets the service register its after-commit work
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Should store the professional as the professional even when they liked first")
+    void like_ShouldPairByRoleNotByWhoLikedFirst() {
+        when(userRoleService.findProfessionalFlags(anyCollection())).thenReturn(Map.of(client, false, professional, true));
+        when(likeRepository.insertAndCheckReciprocal(eq(client), eq(professional), any())).thenReturn(outcome(true, true));
+
+        // The professional liked first; the client's like completes the match
+        var response = likeService.like(client, professional);
+
+        assertThat(response.matched()).isTrue();
+        verify(matchingService).createMatch(client, professional);
+    }
+
+    @Test
+    @DisplayName("Should reject a like between two users on the same side")
+    void like_ShouldRejectSameSide() {
+        var otherClient = UUID.randomUUID();
+        when(userRoleService.findProfessionalFlags(anyCollection())).thenReturn(Map.of(client, false, otherClient, false));
+
+        assertThatThrownBy(() -> likeService.like(client, otherClient)).isInstanceOf(InvalidLikeException.class);
+        verify(likeRepository, never()).insertAndCheckReciprocal(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should mark invalid the bulk likes of users on the same side and match the rest by role")
+    void likeAll_ShouldPairByRole() {
+        var otherProfessional = UUID.randomUUID();
+        when(userRoleService.findProfessionalFlags(anyCollection()))
+                .thenReturn(Map.of(client, false, professional, true, otherProfessional, true));
+        when(likeRepository.insertAllIgnoringConflicts(eq(professional), eq(List.of(client)), any())).thenReturn(new boolean[]{true});
+        when(likeRepository.findLikersAmong(professional, List.of(client))).thenReturn(Set.of(client));
+        when(matchingService.createMatches(professional, Side.PROFESSIONAL, List.of(client))).thenReturn(Map.of(client, UUID.randomUUID()));
+
+        var response = likeService.likeAll(professional, List.of(client, otherProfessional));
+
+        assertThat(response.results()).extracting("status").containsExactly(BulkLikeStatus.MATCHED, BulkLikeStatus.INVALID);
+        verify(seenService).markSeenAfterCommit(professional, List.of(client));
+    }
+
+    private static LikeOutcome outcome(boolean inserted, boolean reciprocal) {
+        return new LikeOutcome() {
+            @Override
+            public boolean getInserted() {
+                return inserted;
+            }
+
+            @Override
+            public boolean getReciprocal() {
+                return reciprocal;
+            }
+        };
+    }
+}
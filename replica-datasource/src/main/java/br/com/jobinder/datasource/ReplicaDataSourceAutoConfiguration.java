@@ -0,0 +1,80 @@
+package br.com.jobinder.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// Only active when replicas are configured, otherwise Spring Boot's single DataSource is used as before.
+// Runs ahead of DataSourceAutoConfiguration so that one backs off
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReplicaDataSourceAutoConfiguration {
+
+    @Value("${datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replicas.max-lag-ms:5000}")
+    private long maxLagMs;
+
+    // A caught-up replica whose WAL receiver has not heard from the primary for this long counts as lagging.
+    // Above wal_sender_timeout / 2, the longest an idle primary waits between keepalives
+    @Value("${datasource.replicas.receiver-timeout-ms:45000}")
+    private long receiverTimeoutMs;
+
+    @Value("${datasource.replicas.lag-check-interval-ms:2000}")
+    private long lagCheckIntervalMs;
+
+    @Value("${datasource.replicas.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    // Bound like Boot's own pool, so spring.datasource.hikari.* keeps applying to the primary
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        var primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             Environment environment) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            var replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                    .url(replicaUrls.get(i).trim())
+                    .build();
+            // Same pool settings as the primary, apart from the name, size and read-only flag
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagMs, receiverTimeoutMs, lagCheckIntervalMs);
+    }
+
+    // Defers taking a physical connection until the first statement, when the transaction's read-only flag is set
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
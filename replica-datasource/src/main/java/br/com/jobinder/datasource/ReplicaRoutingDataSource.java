@@ -0,0 +1,148 @@
+package br.com.jobinder.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+  Sends read-only transactions to a healthy replica (round-robin) and everything else to the primary.
+  Replicas lagging more than maxLagMs behind, or failing the lag probe, are skipped until they catch up.
+  Must be wrapped in a LazyConnectionDataSourceProxy so the read-only flag is known when the connection is taken.
+*/
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String PRIMARY_KEY = "primary";
+
+    // Replay lag in milliseconds; 0 on a primary. A replica that has replayed everything it received only counts
+    // as caught up while its WAL receiver is streaming and has heard from the primary within the receiver timeout,
+    // otherwise a stalled or disconnected receiver would look healthy forever. NULL when there is no live receiver.
+    // pg_stat_wal_receiver only shows its columns to roles with pg_read_all_stats, without it every replica is skipped
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming' " +
+            "AND last_msg_receipt_time > now() - ? * interval '1 millisecond') THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMs;
+    private final long receiverTimeoutMs;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    private static final class Replica {
+        final String key;
+        final DataSource dataSource;
+        volatile boolean healthy = true;
+
+        Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, long maxLagMs,
+                                    long receiverTimeoutMs, long lagCheckIntervalMs) {
+        this.primary = primary;
+        this.maxLagMs = maxLagMs;
+        this.receiverTimeoutMs = receiverTimeoutMs;
+        this.replicas = new ArrayList<>();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            var replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicas, 0, lagCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+            return PRIMARY_KEY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            var replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.key;
+            }
+        }
+        // Every replica is lagging or down, fall back to the primary
+        return PRIMARY_KEY;
+    }
+
+    private void checkReplicas() {
+        for (var replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(LAG_QUERY)) {
+                statement.setLong(1, receiverTimeoutMs);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    double lagMs = resultSet.getDouble(1);
+                    if (resultSet.wasNull()) {
+                        healthy = false;
+                        log.warn("Replica {} is not streaming from the primary, routing reads to other nodes", replica.key);
+                    } else {
+                        healthy = lagMs <= maxLagMs;
+                        if (!healthy) {
+                            log.warn("Replica {} is {} ms behind the primary, routing reads to other nodes", replica.key, (long) lagMs);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                healthy = false;
+                log.warn("Replica {} lag check failed: {}", replica.key, e.getMessage());
+            }
+            if (healthy && !replica.healthy) {
+                log.info("Replica {} caught up, routing reads to it again", replica.key);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    // The primary is its own bean and is closed by the container; the replica pools belong to this router
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source: {}", e.getMessage());
+            }
+        }
+    }
+}